@@ -0,0 +1,31 @@
+package win_calculator;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class for launch of WinCalculator benchmarks
+ * Reports throughput and allocation rate of gc profiler
+ */
+public class BenchmarkRunner {
+
+   /**
+    * Runs benchmarks which names match given regular expressions, all benchmarks by default
+    *
+    * @param args - given regular expressions of benchmark names
+    * @throws RunnerException from JMH runner
+    */
+   public static void main(String[] args) throws RunnerException {
+      OptionsBuilder builder = new OptionsBuilder();
+      for (String pattern : args) {
+         builder.include(pattern);
+      }
+      Options options = builder.addProfiler(GCProfiler.class).build();
+
+      new Runner(options).run();
+   }
+
+}
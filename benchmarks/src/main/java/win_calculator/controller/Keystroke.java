@@ -0,0 +1,75 @@
+package win_calculator.controller;
+
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+
+/**
+ * Entity class of one pressed key for the {@link CalcController}
+ * Stores digit symbol or operation of the key
+ */
+public class Keystroke {
+
+   /**
+    * Stores digit symbol of key, null for the operation key
+    */
+   private final NumberSymbol digit;
+   /**
+    * Stores operation of key, null for the digit key
+    */
+   private final Operation operation;
+   /**
+    * Stores token of key at the script
+    */
+   private final String token;
+
+   /**
+    * Constructs {@link Keystroke} of digit key with given symbol
+    *
+    * @param digit - given digit symbol
+    * @param token - given token of key at the script
+    */
+   Keystroke(NumberSymbol digit, String token) {
+      this.digit = digit;
+      this.operation = null;
+      this.token = token;
+   }
+
+   /**
+    * Constructs {@link Keystroke} of operation key with given operation
+    *
+    * @param operation - given operation
+    * @param token     - given token of key at the script
+    */
+   Keystroke(Operation operation, String token) {
+      this.digit = null;
+      this.operation = operation;
+      this.token = token;
+   }
+
+   /**
+    * Presses current key at the given controller
+    *
+    * @param controller - given controller
+    * @return String[] response with text for display and history labels
+    */
+   public String[] pressOn(CalcController controller) {
+      String[] response;
+      if (digit != null) {
+         response = controller.handleDigit(digit);
+      } else {
+         response = controller.handleOperation(operation);
+      }
+
+      return response;
+   }
+
+   /**
+    * Getter for token of key
+    *
+    * @return String token of key at the script
+    */
+   public String getToken() {
+      return token;
+   }
+
+}
@@ -0,0 +1,181 @@
+package win_calculator.controller;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless replay harness of keystroke scripts at the {@link CalcController}
+ * Measures latency of every keystroke and allocated bytes per keystroke
+ * Run: java -cp target/benchmarks.jar win_calculator.controller.KeystrokeReplay [rounds]
+ */
+public class KeystrokeReplay {
+
+   /**
+    * Constant: default count of replay rounds, first half of them is warm up
+    */
+   private static final int DEFAULT_ROUNDS = 20;
+   /**
+    * Constant: percentiles for the report
+    */
+   private static final double[] PERCENTILES = {0.5, 0.99};
+
+   /**
+    * Stores replayed keystrokes
+    */
+   private final Keystroke[] keystrokes;
+
+   /**
+    * Constructs {@link KeystrokeReplay} with given keystrokes
+    *
+    * @param keystrokes - given list of keystrokes
+    */
+   public KeystrokeReplay(List<Keystroke> keystrokes) {
+      this.keystrokes = keystrokes.toArray(new Keystroke[0]);
+   }
+
+   /**
+    * Replays all keystrokes at the given controller and stores latency of each one
+    *
+    * @param controller - given controller
+    * @param latencies  - given array for latencies in nanoseconds, same length as keystrokes
+    * @return count of characters at the last response, so replay isn't eliminated by JIT
+    */
+   public int replay(CalcController controller, long[] latencies) {
+      String[] response = null;
+      for (int i = 0; i < keystrokes.length; i++) {
+         long start = System.nanoTime();
+         response = keystrokes[i].pressOn(controller);
+         latencies[i] = System.nanoTime() - start;
+      }
+
+      return responseLength(response);
+   }
+
+   /**
+    * Getter for count of keystrokes
+    *
+    * @return count of replayed keystrokes
+    */
+   public int size() {
+      return keystrokes.length;
+   }
+
+   /**
+    * Calculates count of characters at the given response
+    *
+    * @param response - given response of controller
+    * @return count of characters
+    */
+   private static int responseLength(String[] response) {
+      int length = 0;
+      if (response != null) {
+         for (String text : response) {
+            length += text.length();
+         }
+      }
+
+      return length;
+   }
+
+   /**
+    * Replays every {@link ScriptSet} and prints latency percentiles and allocated bytes per keystroke
+    *
+    * @param args - optional count of replay rounds
+    * @throws IOException if scripts resource isn't readable
+    */
+   public static void main(String[] args) throws IOException {
+      int rounds = DEFAULT_ROUNDS;
+      if (args.length > 0) {
+         rounds = Integer.parseInt(args[0]);
+      }
+
+      for (ScriptSet scriptSet : ScriptSet.values()) {
+         KeystrokeReplay replay = new KeystrokeReplay(scriptSet.keystrokes());
+         System.out.println(scriptSet + ": " + replay.size() + " keystrokes");
+         report(replay, rounds);
+      }
+   }
+
+   /**
+    * Replays given keystrokes given count of rounds and prints statistics of measured rounds
+    *
+    * @param replay - given replay of keystrokes
+    * @param rounds - given count of rounds, first half of them is warm up
+    */
+   private static void report(KeystrokeReplay replay, int rounds) {
+      int warmUpRounds = rounds / 2;
+      int measuredRounds = rounds - warmUpRounds;
+      long[] latencies = new long[replay.size() * measuredRounds];
+      long[] roundLatencies = new long[replay.size()];
+      ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+      long allocatedBytes = 0;
+      int checksum = 0;
+
+      for (int round = 0; round < rounds; round++) {
+         CalcController controller = new CalcController();
+         long allocatedBefore = allocatedBytes(threadBean);
+         checksum += replay.replay(controller, roundLatencies);
+         long allocatedAfter = allocatedBytes(threadBean);
+
+         if (round >= warmUpRounds) {
+            System.arraycopy(roundLatencies, 0, latencies, (round - warmUpRounds) * replay.size(), replay.size());
+            allocatedBytes += allocatedAfter - allocatedBefore;
+         }
+
+      }
+
+      Arrays.sort(latencies);
+      StringBuilder result = new StringBuilder("  latency, us:");
+      for (double percentile : PERCENTILES) {
+         int index = (int) Math.min(latencies.length - 1, Math.round(percentile * (latencies.length - 1)));
+         result.append(String.format(Locale.ROOT, " p%s=%.3f", formatPercentile(percentile), latencies[index] / 1000.0));
+      }
+      result.append(String.format(Locale.ROOT, " max=%.3f", latencies[latencies.length - 1] / 1000.0));
+      System.out.println(result);
+
+      if (isAllocationMeasured(threadBean)) {
+         System.out.println(String.format(Locale.ROOT, "  allocated, bytes per keystroke: %.1f", (double) allocatedBytes / latencies.length));
+      }
+      System.out.println("  checksum: " + checksum);
+   }
+
+   /**
+    * Formats given percentile for the report
+    *
+    * @param percentile - given percentile as fraction
+    * @return String of percentile, e.g. 50 or 99
+    */
+   private static String formatPercentile(double percentile) {
+      return String.valueOf(Math.round(percentile * 100));
+   }
+
+   /**
+    * Verifies does JVM support measurement of allocated bytes by thread
+    *
+    * @param threadBean - given thread management bean
+    * @return true if allocated bytes are measured
+    */
+   private static boolean isAllocationMeasured(ThreadMXBean threadBean) {
+      return threadBean instanceof com.sun.management.ThreadMXBean;
+   }
+
+   /**
+    * Reads count of allocated bytes by the current thread
+    *
+    * @param threadBean - given thread management bean
+    * @return count of allocated bytes or zero if JVM doesn't support measurement
+    */
+   private static long allocatedBytes(ThreadMXBean threadBean) {
+      long bytes = 0;
+      if (isAllocationMeasured(threadBean)) {
+         bytes = ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+
+      return bytes;
+   }
+
+}
@@ -0,0 +1,79 @@
+package win_calculator.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of keystrokes at the {@link CalcController} without JavaFX
+ * Every invocation presses one key of {@link ScriptSet} in order of scripts,
+ * so sample time mode reports per-keystroke latency percentiles (p50, p99, max)
+ * and gc profiler reports allocated bytes per keystroke (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class KeystrokeReplayBenchmark {
+
+   /**
+    * Set of replayed scripts
+    */
+   @Param
+   public ScriptSet scriptSet;
+
+   /**
+    * Stores replayed keystrokes
+    */
+   private Keystroke[] keystrokes;
+   /**
+    * The instance of {@link CalcController}
+    */
+   private CalcController controller;
+   /**
+    * Stores index of next pressed key
+    */
+   private int next;
+
+   /**
+    * Parses scripts and creates controller
+    *
+    * @throws IOException if scripts resource isn't readable
+    */
+   @Setup
+   public void setUp() throws IOException {
+      keystrokes = scriptSet.keystrokes().toArray(new Keystroke[0]);
+      controller = new CalcController();
+      next = 0;
+   }
+
+   /**
+    * Measures one keystroke
+    * Starts scripts from the beginning with new controller after the last key
+    *
+    * @return String[] response of controller
+    */
+   @Benchmark
+   public String[] keystroke() {
+      if (next == keystrokes.length) {
+         next = 0;
+         controller = new CalcController();
+      }
+
+      return keystrokes[next++].pressOn(controller);
+   }
+
+}
@@ -0,0 +1,217 @@
+package win_calculator.controller;
+
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.Operations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static win_calculator.controller.entities.Symbol.*;
+
+/**
+ * Abstract class with utils for parsing, loading and generating of keystroke scripts
+ * Script has syntax of the ControllerTest expressions: tokens are separated by spaces,
+ * numbers are typed digit by digit, other tokens are operations
+ */
+public abstract class KeystrokeScripts {
+
+   /**
+    * Constant: resource with keystroke scripts of ControllerTest
+    */
+   private static final String CONTROLLER_SCRIPTS = "/win_calculator/controller/controller-scripts.txt";
+   /**
+    * Constant: prefix of comment lines at the script resources
+    */
+   private static final String COMMENT = "#";
+   /**
+    * Constant: regular expression of number token
+    */
+   private static final String IS_DIGIT_REGEX = "\\d+(,\\d+)?";
+   /**
+    * Constant: separator token of number
+    */
+   private static final String COMA = ",";
+   /**
+    * Constant: keys which reset controller after each script, as ControllerTest does
+    */
+   public static final String RESET = "C MC";
+   /**
+    * Constant: binary operation tokens for the generated scripts
+    */
+   private static final String[] BINARY_TOKENS = {"+", "-", "*", "/"};
+   /**
+    * Constant: not binary operation tokens for the generated scripts
+    */
+   private static final String[] OTHER_TOKENS = {"=", "=", "±", "sqr", "sqrt", "1/x", "%", "⟵", "CE", "MS", "M+", "M-", "MR"};
+   /**
+    * Constant: max count of digits at the generated number
+    */
+   private static final int MAX_DIGITS = 16;
+
+   /**
+    * Stores digit symbols by tokens
+    */
+   private static final HashMap<String, NumberSymbol> DIGITS = createDigitsMap();
+   /**
+    * Stores operations by tokens
+    */
+   private static final HashMap<String, Operation> OPERATIONS = createOperationsMap();
+
+   /**
+    * Parses given script to the list of {@link Keystroke}
+    *
+    * @param script - given keystroke script
+    * @return list of keystrokes
+    * @throws IllegalArgumentException if script contains unknown token
+    */
+   public static List<Keystroke> parse(String script) {
+      List<Keystroke> keystrokes = new ArrayList<>();
+      for (String token : script.trim().split("\\s+")) {
+
+         if (token.matches(IS_DIGIT_REGEX) || COMA.equals(token)) {
+            for (char ch : token.toCharArray()) {
+               String digit = String.valueOf(ch);
+               keystrokes.add(new Keystroke(DIGITS.get(digit), digit));
+            }
+         } else if (OPERATIONS.containsKey(token)) {
+            keystrokes.add(new Keystroke(OPERATIONS.get(token), token));
+         } else if (!token.isEmpty()) {
+            throw new IllegalArgumentException("Unknown token of script: " + token);
+         }
+
+      }
+
+      return keystrokes;
+   }
+
+   /**
+    * Loads keystroke scripts of ControllerTest
+    *
+    * @return list of scripts
+    * @throws IOException if scripts resource isn't readable
+    */
+   public static List<String> loadControllerScripts() throws IOException {
+      List<String> scripts = new ArrayList<>();
+      InputStream stream = KeystrokeScripts.class.getResourceAsStream(CONTROLLER_SCRIPTS);
+      if (stream == null) {
+         throw new IOException("Resource is not found: " + CONTROLLER_SCRIPTS);
+      }
+
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+         String line;
+         while ((line = reader.readLine()) != null) {
+            line = line.trim();
+
+            if (!line.isEmpty() && !line.startsWith(COMMENT)) {
+               scripts.add(line);
+            }
+
+         }
+      }
+
+      return scripts;
+   }
+
+   /**
+    * Generates random script with given count of tokens
+    * Numbers are followed by operations, so script looks like user's input
+    *
+    * @param random - given source of random values
+    * @param tokens - given count of tokens
+    * @return generated script
+    */
+   public static String generate(Random random, int tokens) {
+      StringBuilder script = new StringBuilder();
+      for (int i = 0; i < tokens; i++) {
+         if (i > 0) {
+            script.append(' ');
+         }
+
+         if (i % 2 == 0) {
+            appendNumber(random, script);
+         } else if (random.nextBoolean()) {
+            script.append(BINARY_TOKENS[random.nextInt(BINARY_TOKENS.length)]);
+         } else {
+            script.append(OTHER_TOKENS[random.nextInt(OTHER_TOKENS.length)]);
+         }
+
+      }
+
+      return script.toString();
+   }
+
+   /**
+    * Appends random number token to the given script
+    *
+    * @param random - given source of random values
+    * @param script - given script builder
+    */
+   private static void appendNumber(Random random, StringBuilder script) {
+      int digits = 1 + random.nextInt(MAX_DIGITS);
+      int separatorPosition = random.nextInt(digits + 1);
+      for (int i = 0; i < digits; i++) {
+         if (i == separatorPosition && i > 0) {
+            script.append(COMA);
+         }
+         script.append((char) ('0' + random.nextInt(10)));
+      }
+   }
+
+   /**
+    * Initializes map of digit symbols by tokens
+    *
+    * @return HashMap where String is token of digit
+    */
+   private static HashMap<String, NumberSymbol> createDigitsMap() {
+      HashMap<String, NumberSymbol> map = new HashMap<>();
+      map.put("0", new NumberSymbol(ZERO));
+      map.put("1", new NumberSymbol(ONE));
+      map.put("2", new NumberSymbol(TWO));
+      map.put("3", new NumberSymbol(THREE));
+      map.put("4", new NumberSymbol(FOUR));
+      map.put("5", new NumberSymbol(FIVE));
+      map.put("6", new NumberSymbol(SIX));
+      map.put("7", new NumberSymbol(SEVEN));
+      map.put("8", new NumberSymbol(EIGHT));
+      map.put("9", new NumberSymbol(NINE));
+      map.put(COMA, new NumberSymbol(SEPARATOR));
+      return map;
+   }
+
+   /**
+    * Initializes map of shared operations by tokens
+    *
+    * @return HashMap where String is token of operation
+    */
+   private static HashMap<String, Operation> createOperationsMap() {
+      HashMap<String, Operation> map = new HashMap<>();
+      map.put("+", Operations.ADD);
+      map.put("-", Operations.SUBTRACT);
+      map.put("*", Operations.MULTIPLY);
+      map.put("/", Operations.DIVIDE);
+      map.put("%", Operations.PERCENT);
+      map.put("sqrt", Operations.SQRT);
+      map.put("sqr", Operations.SQR);
+      map.put("1/x", Operations.FRACTION);
+      map.put("CE", Operations.CLEAR_ENTERED);
+      map.put("C", Operations.CLEAR);
+      map.put("⟵", Operations.BACKSPACE);
+      map.put("=", Operations.EQUAL);
+      map.put("±", Operations.NEGATE);
+      map.put("MC", Operations.MEMORY_CLEAR);
+      map.put("MS", Operations.MEMORY_STORE);
+      map.put("MR", Operations.MEMORY_RECALL);
+      map.put("M+", Operations.MEMORY_ADD);
+      map.put("M-", Operations.MEMORY_SUBTRACT);
+      return map;
+   }
+
+}
@@ -0,0 +1,56 @@
+package win_calculator.controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static win_calculator.controller.KeystrokeScripts.*;
+
+/**
+ * Enumeration of keystroke script sets for replay at the {@link CalcController}
+ */
+public enum ScriptSet {
+
+   /**
+    * Marker for the scripts of ControllerTest, each one is followed by reset keys
+    */
+   CONTROLLER_TESTS,
+   /**
+    * Marker for the one large generated script without reset keys inside
+    */
+   GENERATED;
+
+   /**
+    * Constant: seed of generated script, so it's the same at every run
+    */
+   private static final long SEED = 20181017L;
+   /**
+    * Constant: count of tokens at the generated script
+    */
+   private static final int GENERATED_TOKENS = 20000;
+
+   /**
+    * Parses scripts of current set to the keystrokes
+    *
+    * @return list of keystrokes of all scripts
+    * @throws IOException if scripts resource isn't readable
+    */
+   public List<Keystroke> keystrokes() throws IOException {
+      List<String> scripts;
+      if (CONTROLLER_TESTS == this) {
+         scripts = loadControllerScripts();
+      } else {
+         scripts = new ArrayList<>();
+         scripts.add(generate(new Random(SEED), GENERATED_TOKENS));
+      }
+
+      List<Keystroke> keystrokes = new ArrayList<>();
+      for (String script : scripts) {
+         keystrokes.addAll(parse(script));
+         keystrokes.addAll(parse(RESET));
+      }
+
+      return keystrokes;
+   }
+}
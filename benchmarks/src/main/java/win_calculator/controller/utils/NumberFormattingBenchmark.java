@@ -0,0 +1,100 @@
+package win_calculator.controller.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.TimeUnit;
+
+import static win_calculator.controller.utils.ControllerUtils.convertNumberToString;
+import static win_calculator.controller.utils.NumberFormatters.getFormatter;
+
+/**
+ * Benchmark of number formatting for display update
+ * Compares formatting by {@link DisplayFormatter} with formatting by cached {@link DecimalFormat}
+ * of {@link NumberFormatters} and by new {@link DecimalFormat} per call, as it was before the pool
+ * Run with gc profiler to compare allocated bytes per update (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NumberFormattingBenchmark {
+
+   /**
+    * Constant: DecimalFormat string pattern of display label
+    */
+   private static final String DISPLAY_PATTERN = "#############,###.################";
+   /**
+    * Constant: exponent separator of number without exponent
+    */
+   private static final String SEPARATOR = "e";
+
+   /**
+    * String of formatted number
+    */
+   @Param({"7", "1234567,89", "0,3333333333333333", "-9999999999999999"})
+   public String value;
+
+   /**
+    * Stores formatted number
+    */
+   private BigDecimal number;
+
+   /**
+    * Parses formatted number
+    */
+   @Setup
+   public void setUp() {
+      number = new BigDecimal(value.replace(',', '.'));
+   }
+
+   /**
+    * Measures display update by {@link DisplayFormatter}
+    *
+    * @return String of formatted number
+    */
+   @Benchmark
+   public String displayFormatter() {
+      return convertNumberToString(number, DISPLAY_PATTERN);
+   }
+
+   /**
+    * Measures formatting with cached {@link DecimalFormat}
+    *
+    * @return String of formatted number
+    */
+   @Benchmark
+   public String cachedFormatter() {
+      return getFormatter(DISPLAY_PATTERN, SEPARATOR).format(number);
+   }
+
+   /**
+    * Measures formatting with new formatter and symbols per call
+    *
+    * @return String of formatted number
+    */
+   @Benchmark
+   public String newFormatter() {
+      DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+      symbols.setExponentSeparator(SEPARATOR);
+      DecimalFormat formatter = new DecimalFormat(DISPLAY_PATTERN);
+      formatter.setDecimalFormatSymbols(symbols);
+
+      return formatter.format(number);
+   }
+
+}
@@ -0,0 +1,62 @@
+package win_calculator.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.ExtraOperationCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of session which toggles extra operations on the same values
+ * at {@link CalcEngine} without cache and with shared {@link ExtraOperationCache}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExtraOperationCacheBenchmark {
+
+   /**
+    * Constant: keystroke script with repeated extra operations
+    */
+   private static final String SCRIPT = "2 sqrt sqr sqrt sqr sqrt sqr sqrt sqr 1/x 1/x sqrt sqrt";
+   /**
+    * Constant: max count of results at the cache
+    */
+   private static final int CACHE_CAPACITY = 256;
+
+   /**
+    * The instance of {@link ExtraOperationCache} shared by sessions of all benchmark threads
+    */
+   private final ExtraOperationCache cache = new ExtraOperationCache(CACHE_CAPACITY);
+
+   /**
+    * Measures session without cache
+    *
+    * @return display text of the session
+    */
+   @Benchmark
+   public String plainSession() {
+      return new CalcEngine().evaluate(SCRIPT).getDisplay();
+   }
+
+   /**
+    * Measures session with shared cache
+    *
+    * @return display text of the session
+    */
+   @Benchmark
+   public String cachedSession() {
+      return new CalcEngine(cache).evaluate(SCRIPT).getDisplay();
+   }
+
+}
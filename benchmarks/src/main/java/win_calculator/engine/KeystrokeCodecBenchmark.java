@@ -0,0 +1,115 @@
+package win_calculator.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the same batch of keystroke scripts as text and at binary format of {@link KeystrokeCodec}
+ * Run with gc profiler to compare allocated bytes per batch (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class KeystrokeCodecBenchmark {
+
+   /**
+    * Constant: count of scripts at the batch
+    */
+   private static final int SCRIPTS_COUNT = 1000;
+   /**
+    * Constant: max count of tokens at the script
+    */
+   private static final int MAX_TOKENS = 15;
+   /**
+    * Constant: max random number at the script
+    */
+   private static final int MAX_NUMBER = 100000;
+   /**
+    * Constant: operation tokens of scripts
+    */
+   private static final String[] OPERATIONS = {"+", "-", "*", "/", "sqr", "sqrt", "1/x", "%", "±", "=", "MS", "MR", "M+"};
+
+   /**
+    * Stores scripts of batch as text
+    */
+   private final String[] scripts = new String[SCRIPTS_COUNT];
+   /**
+    * Stores encoded batch
+    */
+   private byte[] encoded;
+   /**
+    * The instance of {@link CalcEngine}
+    */
+   private final CalcEngine engine = new CalcEngine();
+
+   /**
+    * Generates batch and encodes it
+    *
+    * @throws IOException never, stream is in memory
+    */
+   @Setup
+   public void setUp() throws IOException {
+      Random random = new Random(1);
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int i = 0; i < SCRIPTS_COUNT; i++) {
+         StringBuilder builder = new StringBuilder();
+         int tokens = 1 + random.nextInt(MAX_TOKENS);
+
+         for (int j = 0; j < tokens; j++) {
+
+            if (random.nextBoolean()) {
+               builder.append(random.nextInt(MAX_NUMBER));
+            } else {
+               builder.append(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+            }
+            builder.append(' ');
+         }
+         scripts[i] = builder.toString();
+         KeystrokeCodec.encode(scripts[i], out);
+      }
+      encoded = out.toByteArray();
+   }
+
+   /**
+    * Measures evaluation of the batch as text
+    *
+    * @param blackhole - given consumer of results
+    */
+   @Benchmark
+   public void evaluateText(Blackhole blackhole) {
+      for (String script : scripts) {
+         blackhole.consume(engine.evaluate(script));
+         engine.reset();
+      }
+   }
+
+   /**
+    * Measures decoding and evaluation of the encoded batch
+    *
+    * @param blackhole - given consumer of results
+    * @return count of decoded scripts
+    */
+   @Benchmark
+   public long decodeBinary(Blackhole blackhole) {
+      return KeystrokeCodec.decode(ByteBuffer.wrap(encoded), engine, blackhole::consume);
+   }
+
+}
@@ -0,0 +1,112 @@
+package win_calculator.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of throughput scaling of the {@link ParallelBatchEvaluator} from 1 to 8 threads
+ * Every invocation evaluates the same batch of random keystroke scripts,
+ * so ratio of scores shows scaling by count of cores
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelBatchBenchmark {
+
+   /**
+    * Constant: count of scripts at the batch
+    */
+   private static final int SCRIPTS_COUNT = 10000;
+   /**
+    * Constant: max count of tokens at the script
+    */
+   private static final int MAX_TOKENS = 15;
+   /**
+    * Constant: max random number at the script
+    */
+   private static final int MAX_NUMBER = 1000;
+   /**
+    * Constant: operation tokens of scripts
+    */
+   private static final String[] OPERATIONS = {"+", "-", "*", "/", "sqr", "sqrt", "1/x", "%", "±", "=", "MS", "MR", "M+"};
+
+   /**
+    * Count of evaluation threads
+    */
+   @Param({"1", "2", "4", "8"})
+   public int parallelism;
+
+   /**
+    * Stores batch of scripts
+    */
+   private String batch;
+   /**
+    * The instance of {@link ParallelBatchEvaluator}
+    */
+   private ParallelBatchEvaluator evaluator;
+
+   /**
+    * Generates batch and creates evaluator
+    */
+   @Setup
+   public void setUp() {
+      Random random = new Random(1);
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < SCRIPTS_COUNT; i++) {
+         int tokens = 1 + random.nextInt(MAX_TOKENS);
+
+         for (int j = 0; j < tokens; j++) {
+
+            if (random.nextBoolean()) {
+               builder.append(random.nextInt(MAX_NUMBER));
+            } else {
+               builder.append(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+            }
+            builder.append(' ');
+         }
+         builder.append('\n');
+      }
+      batch = builder.toString();
+      evaluator = new ParallelBatchEvaluator(parallelism, true);
+   }
+
+   /**
+    * Shuts down pool of evaluator
+    */
+   @TearDown
+   public void tearDown() {
+      evaluator.shutdown();
+   }
+
+   /**
+    * Measures evaluation of the batch, score is count of batches per second
+    *
+    * @return count of evaluated scripts
+    * @throws IOException never, reader and writer are in memory
+    */
+   @Benchmark
+   public long evaluateBatch() throws IOException {
+      return evaluator.evaluate(new BufferedReader(new StringReader(batch)), new StringWriter());
+   }
+
+}
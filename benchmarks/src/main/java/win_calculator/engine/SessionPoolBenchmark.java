@@ -0,0 +1,61 @@
+package win_calculator.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of short sessions at new {@link CalcEngine} and at session of the {@link SessionPool}
+ * Run with gc profiler to compare allocated bytes per session (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SessionPoolBenchmark {
+
+   /**
+    * Constant: short keystroke script
+    */
+   private static final String SCRIPT = "2 + 3 =";
+
+   /**
+    * The instance of {@link SessionPool}
+    */
+   private final SessionPool pool = new SessionPool(1);
+
+   /**
+    * Measures session at new engine
+    *
+    * @return display text of the session
+    */
+   @Benchmark
+   public String newSession() {
+      return new CalcEngine().evaluate(SCRIPT).getDisplay();
+   }
+
+   /**
+    * Measures session at engine of the pool, which is reset after session
+    *
+    * @return display text of the session
+    */
+   @Benchmark
+   public String pooledSession() {
+      CalcEngine session = pool.acquire();
+      String display = session.evaluate(SCRIPT).getDisplay();
+      pool.release(session);
+
+      return display;
+   }
+
+}
@@ -0,0 +1,91 @@
+package win_calculator.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.operations.Number;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.binary_operations.Add;
+import win_calculator.model.operations.extra_operations.Negate;
+import win_calculator.model.operations.extra_operations.Sqr;
+import win_calculator.model.operations.extra_operations.Sqrt;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of rejecting last number with extra operations at the {@link History}
+ * Every invocation appends number with sqr, sqrt and negate on it to the history of given length
+ * and rejects them back, so the score shows does tail trimming depend on session length
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HistoryBenchmark {
+
+   /**
+    * Count of operations at the history before appended tail
+    */
+   @Param({"10", "1000", "100000"})
+   public int historyLength;
+
+   /**
+    * The instance of {@link History}
+    */
+   private History history;
+   /**
+    * Stores appended number
+    */
+   private Number number;
+   /**
+    * Stores extra operations appended after the number
+    */
+   private Operation[] extraOperations;
+
+   /**
+    * Fills history with pairs of number and add operation
+    */
+   @Setup
+   public void setUp() {
+      history = new History();
+      number = new Number(new DecimalNumber(BigDecimal.valueOf(2)));
+      extraOperations = new Operation[]{new Sqr(), new Sqrt(), new Negate()};
+      Operation add = new Add();
+      for (int i = 0; i < historyLength; i++) {
+         if (i % 2 == 0) {
+            history.addOperation(number);
+         } else {
+            history.addOperation(add);
+         }
+      }
+   }
+
+   /**
+    * Measures appending of the number with extra operations and its rejection in place
+    *
+    * @return count of operations at the history after rejection
+    */
+   @Benchmark
+   public int rejectLastNumber() {
+      history.addOperation(number);
+      for (Operation operation : extraOperations) {
+         history.addOperation(operation);
+      }
+      history.removeLastNumberWithExtraOperations();
+
+      return history.getOperations().size();
+   }
+
+}
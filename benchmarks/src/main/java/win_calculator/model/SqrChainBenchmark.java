@@ -0,0 +1,66 @@
+package win_calculator.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.operations.extra_operations.Sqr;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of chain "9999999 sqr sqr sqr ..." at the {@link CalcModel}
+ * Square exceeds max value at the 11th step, so the rest of chain measures overflow of products,
+ * which are verified by exponents of factors without multiplication
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SqrChainBenchmark {
+
+   /**
+    * Constant: first number of chain
+    */
+   private static final BigDecimal FIRST_NUMBER = new BigDecimal("9999999");
+
+   /**
+    * Count of square operations at the chain
+    */
+   @Param({"8", "16", "32"})
+   public int chainLength;
+
+   /**
+    * Measures chain of square operations at new model
+    *
+    * @return count of overflow exceptions
+    */
+   @Benchmark
+   public int sqrChain() {
+      CalcModel model = new CalcModel();
+      Sqr sqr = new Sqr();
+      int overflows = 0;
+      model.calculate(FIRST_NUMBER);
+      for (int i = 0; i < chainLength; i++) {
+         try {
+            model.calculate(sqr);
+         } catch (OperationException e) {
+            overflows++;
+         }
+         model.calculate((BigDecimal) null);
+      }
+
+      return overflows;
+   }
+
+}
@@ -0,0 +1,113 @@
+package win_calculator.model.operations;
+
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.numbers.NumberBackend;
+import win_calculator.model.operations.binary_operations.Divide;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Enumeration of representative inputs for the operation benchmarks
+ * Every input provides pair of different positive numbers of the same kind
+ */
+public enum BenchmarkInput {
+
+   /**
+    * Marker for small integers
+    */
+   SMALL_INTEGER("7", "3"),
+   /**
+    * Marker for numbers with 16 significant digits, as max inputted number
+    */
+   SIXTEEN_DIGITS("1234567.890123456", "9876543210.987654"),
+   /**
+    * Marker for results of divide operation
+    */
+   DIVIDE_RESULT("3", "7"),
+   /**
+    * Marker for decimal results of divide with scale of ~10k digits
+    */
+   LONG_SCALE("3", "7"),
+   /**
+    * Marker for values near max possible value 1e9999
+    */
+   NEAR_OVERFLOW("9.999999999999999e9999", "1.234567890123456e9999"),
+   /**
+    * Marker for values near min possible value 1e-9999
+    */
+   NEAR_UNDERFLOW("1.000000000000001e-9999", "9.876543210987654e-9999");
+
+   /**
+    * Constant: scale of decimal results of divide
+    */
+   private static final int LONG_SCALE_DIGITS = 10030;
+
+   /**
+    * Stores string representation of first number
+    */
+   private final String first;
+   /**
+    * Stores string representation of second number
+    */
+   private final String second;
+
+   /**
+    * Constructs BenchmarkInput enumeration with given String representations of numbers
+    *
+    * @param first  - given String representation of first number
+    * @param second - given String representation of second number
+    */
+   BenchmarkInput(String first, String second) {
+      this.first = first;
+      this.second = second;
+   }
+
+   /**
+    * Creates first number of current input at the given backend
+    *
+    * @param backend - given number backend
+    * @return first number
+    */
+   public CalcNumber first(NumberBackend backend) {
+      return create(first, backend);
+   }
+
+   /**
+    * Creates second number of current input at the given backend
+    *
+    * @param backend - given number backend
+    * @return second number
+    */
+   public CalcNumber second(NumberBackend backend) {
+      return create(second, backend);
+   }
+
+   /**
+    * Creates number of current input by given String representation
+    * Results of divide are made by {@link Divide} of two by given number,
+    * decimal results with long scale are made by BigDecimal division of two by given number
+    *
+    * @param value   - given String representation of number
+    * @param backend - given number backend
+    * @return created number
+    */
+   private CalcNumber create(String value, NumberBackend backend) {
+      CalcNumber number;
+      if (DIVIDE_RESULT == this) {
+         try {
+            number = new Divide().calculate(backend.valueOf(BigDecimal.valueOf(2)), backend.valueOf(new BigDecimal(value)));
+         } catch (OperationException e) {
+            throw new IllegalStateException(e);
+         }
+      } else if (LONG_SCALE == this) {
+         number = new DecimalNumber(BigDecimal.valueOf(2).divide(new BigDecimal(value), LONG_SCALE_DIGITS, RoundingMode.HALF_UP));
+      } else {
+         number = backend.valueOf(new BigDecimal(value));
+      }
+
+      return number;
+   }
+}
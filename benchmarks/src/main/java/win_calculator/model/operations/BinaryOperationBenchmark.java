@@ -0,0 +1,99 @@
+package win_calculator.model.operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.NumberBackend;
+import win_calculator.model.operations.binary_operations.Add;
+import win_calculator.model.operations.binary_operations.BinaryOperation;
+import win_calculator.model.operations.binary_operations.Divide;
+import win_calculator.model.operations.binary_operations.Multiply;
+import win_calculator.model.operations.binary_operations.Subtract;
+
+import java.util.concurrent.TimeUnit;
+
+import static win_calculator.model.operations.OperationType.*;
+
+/**
+ * Benchmark of every {@link BinaryOperation} implementation
+ * on the {@link BenchmarkInput} pairs of numbers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryOperationBenchmark {
+
+   /**
+    * Type of benchmarked binary operation
+    */
+   @Param({"ADD", "SUBTRACT", "MULTIPLY", "DIVIDE"})
+   public OperationType operationType;
+   /**
+    * Kind of input numbers
+    */
+   @Param
+   public BenchmarkInput input;
+   /**
+    * Backend of input numbers
+    */
+   @Param
+   public NumberBackend backend;
+
+   /**
+    * Benchmarked binary operation
+    */
+   private BinaryOperation operation;
+   /**
+    * First number of operation
+    */
+   private CalcNumber firstNumber;
+   /**
+    * Second number of operation
+    */
+   private CalcNumber secondNumber;
+
+   /**
+    * Creates benchmarked operation and input numbers
+    */
+   @Setup
+   public void setUp() {
+      if (ADD == operationType) {
+         operation = new Add();
+      } else if (SUBTRACT == operationType) {
+         operation = new Subtract();
+      } else if (MULTIPLY == operationType) {
+         operation = new Multiply();
+      } else if (DIVIDE == operationType) {
+         operation = new Divide();
+      } else {
+         throw new IllegalArgumentException("Not binary operation: " + operationType);
+      }
+      firstNumber = input.first(backend);
+      secondNumber = input.second(backend);
+   }
+
+   /**
+    * Measures binary operation
+    *
+    * @return result of operation
+    * @throws OperationException from operation
+    */
+   @Benchmark
+   public CalcNumber binaryOperation() throws OperationException {
+      return operation.calculate(firstNumber, secondNumber);
+   }
+
+}
@@ -0,0 +1,112 @@
+package win_calculator.model.operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of accounting-style session: sum of prices multiplied by quantities minus discounts
+ * on compact {@link DecimalNumber} with long arithmetic and on DecimalNumber with BigDecimal value
+ * Both sessions return equal totals
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CompactArithmeticBenchmark {
+
+   /**
+    * Constant: count of lines of the session
+    */
+   private static final int LINES_COUNT = 1000;
+   /**
+    * Constant: max price in cents
+    */
+   private static final int MAX_PRICE_CENTS = 1000000;
+   /**
+    * Constant: max quantity
+    */
+   private static final int MAX_QUANTITY = 100;
+
+   /**
+    * Stores compact prices, quantities and discounts
+    */
+   private final CalcNumber[][] compactLines = new CalcNumber[LINES_COUNT][];
+   /**
+    * Stores the same prices, quantities and discounts with BigDecimal values
+    */
+   private final CalcNumber[][] decimalLines = new CalcNumber[LINES_COUNT][];
+
+   /**
+    * Generates lines of session
+    */
+   @Setup
+   public void setUp() {
+      Random random = new Random(1);
+      for (int i = 0; i < LINES_COUNT; i++) {
+         BigDecimal[] line = {
+                 BigDecimal.valueOf(random.nextInt(MAX_PRICE_CENTS), 2),
+                 BigDecimal.valueOf(1 + random.nextInt(MAX_QUANTITY)),
+                 BigDecimal.valueOf(random.nextInt(MAX_PRICE_CENTS / 10), 2)};
+         compactLines[i] = new CalcNumber[line.length];
+         decimalLines[i] = new CalcNumber[line.length];
+
+         for (int j = 0; j < line.length; j++) {
+            compactLines[i][j] = DecimalNumber.valueOf(line[j]);
+            decimalLines[i][j] = new DecimalNumber(line[j]);
+         }
+
+      }
+   }
+
+   /**
+    * Measures session on compact numbers
+    *
+    * @return total of session
+    */
+   @Benchmark
+   public BigDecimal compactSession() {
+      return calculateTotal(compactLines);
+   }
+
+   /**
+    * Measures session on numbers with BigDecimal values
+    *
+    * @return total of session
+    */
+   @Benchmark
+   public BigDecimal decimalSession() {
+      return calculateTotal(decimalLines);
+   }
+
+   /**
+    * Calculates total of given lines
+    *
+    * @param lines - given prices, quantities and discounts
+    * @return BigDecimal total
+    */
+   private static BigDecimal calculateTotal(CalcNumber[][] lines) {
+      CalcNumber total = DecimalNumber.ZERO;
+      for (CalcNumber[] line : lines) {
+         total = total.add(line[0].multiply(line[1])).subtract(line[2]);
+      }
+
+      return total.toBigDecimal();
+   }
+
+}
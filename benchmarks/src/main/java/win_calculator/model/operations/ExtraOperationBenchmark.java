@@ -0,0 +1,94 @@
+package win_calculator.model.operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.NumberBackend;
+import win_calculator.model.operations.extra_operations.ExtraOperation;
+import win_calculator.model.operations.extra_operations.Fraction;
+import win_calculator.model.operations.extra_operations.Negate;
+import win_calculator.model.operations.extra_operations.Sqr;
+import win_calculator.model.operations.extra_operations.Sqrt;
+
+import java.util.concurrent.TimeUnit;
+
+import static win_calculator.model.operations.OperationType.*;
+
+/**
+ * Benchmark of every {@link ExtraOperation} implementation
+ * on the first number of {@link BenchmarkInput}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtraOperationBenchmark {
+
+   /**
+    * Type of benchmarked extra operation
+    */
+   @Param({"SQR", "SQRT", "FRACTION", "NEGATE"})
+   public OperationType operationType;
+   /**
+    * Kind of input number
+    */
+   @Param
+   public BenchmarkInput input;
+   /**
+    * Backend of input number
+    */
+   @Param
+   public NumberBackend backend;
+
+   /**
+    * Benchmarked extra operation
+    */
+   private ExtraOperation operation;
+   /**
+    * Number of operation
+    */
+   private CalcNumber number;
+
+   /**
+    * Creates benchmarked operation and input number
+    */
+   @Setup
+   public void setUp() {
+      if (SQR == operationType) {
+         operation = new Sqr();
+      } else if (SQRT == operationType) {
+         operation = new Sqrt();
+      } else if (FRACTION == operationType) {
+         operation = new Fraction();
+      } else if (NEGATE == operationType) {
+         operation = new Negate();
+      } else {
+         throw new IllegalArgumentException("Not extra operation: " + operationType);
+      }
+      number = input.first(backend);
+   }
+
+   /**
+    * Measures extra operation
+    *
+    * @return result of operation
+    * @throws OperationException from operation
+    */
+   @Benchmark
+   public CalcNumber extraOperation() throws OperationException {
+      return operation.calculate(number);
+   }
+
+}
@@ -0,0 +1,101 @@
+package win_calculator.model.operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.CalcModel;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.operations.binary_operations.Add;
+import win_calculator.model.operations.binary_operations.Multiply;
+import win_calculator.model.operations.clear.Clear;
+import win_calculator.model.operations.equal.Equal;
+import win_calculator.model.operations.extra_operations.Negate;
+import win_calculator.model.operations.extra_operations.Sqr;
+import win_calculator.model.operations.memory_operations.MemoryOperation;
+import win_calculator.model.operations.percent.Percent;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static win_calculator.model.operations.memory_operations.MemoryOperationType.*;
+
+/**
+ * Benchmark of keystroke replay at the {@link CalcModel}
+ * with shared instances of {@link Operations} and with new operation for every keystroke,
+ * as the view created them before
+ * Run with gc profiler to compare allocated bytes per replay (gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class OperationDispatchBenchmark {
+
+   /**
+    * Constant: inputted number before every operation
+    */
+   private static final BigDecimal NUMBER = new BigDecimal("12.5");
+   /**
+    * Constant: replayed shared operations
+    */
+   private static final Operation[] SHARED_OPERATIONS = {
+           Operations.ADD, Operations.SQR, Operations.MULTIPLY, Operations.PERCENT, Operations.EQUAL,
+           Operations.NEGATE, Operations.MEMORY_ADD, Operations.MEMORY_RECALL, Operations.CLEAR};
+   /**
+    * Constant: factories of the same operations
+    */
+   private static final List<Supplier<Operation>> NEW_OPERATIONS = Arrays.asList(
+           Add::new, Sqr::new, Multiply::new, Percent::new, Equal::new,
+           Negate::new, () -> new MemoryOperation(ADD_TO_MEMORY), () -> new MemoryOperation(RECALL), Clear::new);
+
+   /**
+    * The instance of {@link CalcModel}
+    */
+   private final CalcModel model = new CalcModel();
+
+   /**
+    * Measures replay with shared operations
+    *
+    * @return result of the last operation
+    * @throws OperationException never, replayed operations don't overflow
+    */
+   @Benchmark
+   public BigDecimal sharedOperations() throws OperationException {
+      BigDecimal result = null;
+      for (Operation operation : SHARED_OPERATIONS) {
+         model.calculate(NUMBER);
+         result = model.calculate(operation);
+      }
+
+      return result;
+   }
+
+   /**
+    * Measures replay with new operation for every keystroke
+    *
+    * @return result of the last operation
+    * @throws OperationException never, replayed operations don't overflow
+    */
+   @Benchmark
+   public BigDecimal newOperations() throws OperationException {
+      BigDecimal result = null;
+      for (Supplier<Operation> factory : NEW_OPERATIONS) {
+         model.calculate(NUMBER);
+         result = model.calculate(factory.get());
+      }
+
+      return result;
+   }
+
+}
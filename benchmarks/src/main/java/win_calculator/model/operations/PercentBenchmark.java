@@ -0,0 +1,74 @@
+package win_calculator.model.operations;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.NumberBackend;
+import win_calculator.model.operations.percent.Percent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link Percent} operation on the {@link BenchmarkInput} pairs of numbers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PercentBenchmark {
+
+   /**
+    * Kind of input numbers
+    */
+   @Param
+   public BenchmarkInput input;
+   /**
+    * Backend of input numbers
+    */
+   @Param
+   public NumberBackend backend;
+
+   /**
+    * The instance of {@link Percent}
+    */
+   private Percent percent = new Percent();
+   /**
+    * First number of operation
+    */
+   private CalcNumber firstNumber;
+   /**
+    * Second number of operation
+    */
+   private CalcNumber secondNumber;
+
+   /**
+    * Creates input numbers
+    */
+   @Setup
+   public void setUp() {
+      firstNumber = input.first(backend);
+      secondNumber = input.second(backend);
+   }
+
+   /**
+    * Measures percent operation
+    *
+    * @return result of operation
+    */
+   @Benchmark
+   public CalcNumber percent() {
+      return percent.calculate(firstNumber, secondNumber);
+   }
+
+}
@@ -0,0 +1,69 @@
+package win_calculator.model.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+
+import java.util.concurrent.TimeUnit;
+
+import static win_calculator.model.utils.ModelUtils.checkOnOverflow;
+
+/**
+ * Benchmark of the overflow check of {@link ModelUtils} over numbers with huge count of digits
+ * Number is created once, so the score is the cost of check only
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class OverflowCheckBenchmark {
+
+   /**
+    * Checked input
+    */
+   @Param
+   public OverflowInput input;
+
+   /**
+    * Stores checked number
+    */
+   private CalcNumber number;
+
+   /**
+    * Creates checked number
+    */
+   @Setup
+   public void setUp() {
+      number = input.create();
+   }
+
+   /**
+    * Measures overflow check of the number
+    *
+    * @return true if number is overflow
+    */
+   @Benchmark
+   public boolean checkOverflow() {
+      boolean isOverflow = false;
+      try {
+         checkOnOverflow(number);
+      } catch (OperationException e) {
+         isOverflow = true;
+      }
+
+      return isOverflow;
+   }
+
+}
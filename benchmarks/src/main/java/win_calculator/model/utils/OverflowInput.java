@@ -0,0 +1,70 @@
+package win_calculator.model.utils;
+
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Enumeration of inputs with huge count of digits for the overflow check benchmark
+ */
+public enum OverflowInput {
+
+   /**
+    * Marker for number with ~20k digits of fractional part, far from bounds
+    */
+   LONG_SCALE,
+   /**
+    * Marker for integer with ~20k digits, bigger than max value
+    */
+   LONG_INTEGER,
+   /**
+    * Marker for number with ~20k digits less than min value
+    */
+   LONG_UNDERFLOW,
+   /**
+    * Marker for number with ~20k digits at the exponent of max value, but less than it
+    */
+   NEAR_MAX,
+   /**
+    * Marker for result of divide with ~20k digits of numerator and denominator
+    */
+   LONG_QUOTIENT;
+
+   /**
+    * Constant: count of digits of inputs
+    */
+   private static final int DIGITS = 20000;
+   /**
+    * Constant: exponent of max value of the model
+    */
+   private static final int MAX_EXPONENT = 9999;
+
+   /**
+    * Creates number of current input
+    *
+    * @return created number
+    */
+   public CalcNumber create() {
+      BigDecimal seventh = BigDecimal.valueOf(2).divide(BigDecimal.valueOf(7), DIGITS, RoundingMode.HALF_UP);
+      CalcNumber number;
+      if (LONG_SCALE == this) {
+         number = new DecimalNumber(seventh);
+      } else if (LONG_INTEGER == this) {
+         number = new DecimalNumber(seventh.movePointRight(DIGITS));
+      } else if (LONG_UNDERFLOW == this) {
+         number = new DecimalNumber(seventh.movePointLeft(DIGITS));
+      } else if (NEAR_MAX == this) {
+         number = new DecimalNumber(seventh.movePointRight(MAX_EXPONENT + 1));
+      } else {
+         BigInteger denominator = BigInteger.valueOf(7).pow(DIGITS * 6 / 5);
+         CalcNumber numerator = new DecimalNumber(new BigDecimal(denominator.subtract(BigInteger.ONE)));
+         number = numerator.divide(new DecimalNumber(new BigDecimal(denominator)));
+      }
+
+      return number;
+   }
+
+}
@@ -1,6 +1,7 @@
 package win_calculator.controller;
 
 import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.controller.utils.HistoryRenderer;
 import win_calculator.model.CalcModel;
 import win_calculator.model.exceptions.ExceptionType;
 import win_calculator.model.exceptions.OperationException;
@@ -11,10 +12,13 @@ import win_calculator.model.operations.OperationType;
 
 import java.math.BigDecimal;
 
+import static win_calculator.controller.entities.Symbol.SEPARATOR;
+import static win_calculator.controller.utils.ControllerUtils.DISPLAY_PATTERN;
 import static win_calculator.controller.utils.ControllerUtils.convertNumberToString;
-import static win_calculator.controller.utils.ControllerUtils.convertHistoryToString;
 import static win_calculator.model.exceptions.ExceptionType.*;
+import static win_calculator.model.operations.memory_operations.MemoryOperationType.ADD_TO_MEMORY;
 import static win_calculator.model.operations.memory_operations.MemoryOperationType.STORE;
+import static win_calculator.model.operations.memory_operations.MemoryOperationType.SUBTRACT_FROM_MEMORY;
 import static win_calculator.model.operations.OperationType.*;
 import static win_calculator.model.operations.OperationType.EQUAL;
 import static win_calculator.model.utils.ModelUtils.isBinaryOperation;
@@ -55,19 +59,19 @@ public class CalcController {
     * Constant String representation of zero
     */
    private static final String ZERO = "0";
-   /**
-    * Constant: default DecimalFormat string pattern for display label
-    */
-   private static final String DISPLAY_PATTERN = "#############,###.################";
 
    /**
     * The instance of {@link CalcModel}
     */
-   private CalcModel model = new CalcModel();
+   private final CalcModel model;
    /**
     * The instance of {@link NumberBuilder}
     */
    private NumberBuilder numberBuilder = new NumberBuilder();
+   /**
+    * The instance of {@link HistoryRenderer}
+    */
+   private HistoryRenderer historyRenderer = new HistoryRenderer();
 
    /**
     * Stores {@link OperationType} of last operation
@@ -78,6 +82,26 @@ public class CalcController {
     * Flag was it exception after last operation
     */
    private boolean wasException = false;
+   /**
+    * Stores {@link ExceptionType} of exception at the last handled event, null if it was without exception
+    */
+   private ExceptionType lastExceptionType;
+
+   /**
+    * Constructs {@link CalcController} with new {@link CalcModel}
+    */
+   public CalcController() {
+      this(new CalcModel());
+   }
+
+   /**
+    * Constructs {@link CalcController} with given {@link CalcModel}
+    *
+    * @param model - given model
+    */
+   public CalcController(CalcModel model) {
+      this.model = model;
+   }
 
    /**
     * Method receives operation and handle exceptions from the {@link CalcModel}
@@ -88,13 +112,18 @@ public class CalcController {
     */
    public String[] handleOperation(Operation operation) {
       String displayText;
+      lastExceptionType = null;
       try {
          displayText = selectAndProcessOperationByType(operation);
       } catch (OperationException e) {
-         displayText = selectMessageForException(e.getType());
+         lastExceptionType = e.getType();
+         displayText = selectMessageForException(lastExceptionType);
          wasException = true;
       }
       OperationType type = operation.getType();
+      if (isOperationTypeClearingHistory(type)) {
+         historyRenderer.clear();
+      }
       String historyText = getHistoryText(isOperationTypeResettingOverflow(type));
       lastOperationType = type;
 
@@ -134,6 +163,7 @@ public class CalcController {
     * @return String[] response with text for display and history labels
     */
    public String[] handleDigit(NumberSymbol numberSymbol) {
+      lastExceptionType = null;
       if (wasException) {
          numberBuilder.clean();
       }
@@ -158,6 +188,65 @@ public class CalcController {
       return lastOperationType;
    }
 
+   /**
+    * Restores state of new controller in place
+    * Clears model, number builder, history renderer and flags without reallocation,
+    * so controller is reused for new session
+    */
+   public void reset() {
+      model.reset();
+      numberBuilder.clean();
+      historyRenderer.clear();
+      lastOperationType = null;
+      wasException = false;
+      lastExceptionType = null;
+   }
+
+   /**
+    * Getter for lastExceptionType
+    *
+    * @return {@link ExceptionType} of exception at the last handled event, null if it was without exception
+    */
+   public ExceptionType getLastExceptionType() {
+      return lastExceptionType;
+   }
+
+   /**
+    * Verifies is given operation ignored, because the last event ended with exception
+    * While display shows message of exception, binary, extra, percent, negate and memory add, subtract
+    * and store operations can't be done, the same operations have disabled buttons at the view
+    *
+    * @param operation - given operation
+    * @return true if given operation has to be dropped without handling
+    */
+   public boolean isBlockedByException(Operation operation) {
+      boolean isBlocked = false;
+      if (lastExceptionType != null) {
+         OperationType type = operation.getType();
+
+         if (MEMORY == type) {
+            MemoryOperationType memoryType = ((MemoryOperation) operation).getMemoryOperationType();
+            isBlocked = ADD_TO_MEMORY == memoryType || SUBTRACT_FROM_MEMORY == memoryType || STORE == memoryType;
+         } else {
+            isBlocked = isBinaryOperation(type) || isExtraOperation(type) || PERCENT == type || NEGATE == type;
+         }
+
+      }
+
+      return isBlocked;
+   }
+
+   /**
+    * Verifies is given digit ignored, because the last event ended with exception
+    * While display shows message of exception decimal separator can't be entered
+    *
+    * @param numberSymbol - given digit or decimal separator
+    * @return true if given digit has to be dropped without handling
+    */
+   public boolean isBlockedByException(NumberSymbol numberSymbol) {
+      return lastExceptionType != null && SEPARATOR.getString().equals(numberSymbol.getSymbol());
+   }
+
    /**
     * Method clears display label text,
     * calls clean() at {@link NumberBuilder}
@@ -277,11 +366,22 @@ public class CalcController {
          historyText = "";
          wasException = false;
       } else {
-         historyText = convertHistoryToString(model.getHistory());
+         historyText = historyRenderer.render(model.getHistory());
       }
       return historyText;
    }
 
+   /**
+    * Verifies does operation of given type clear history of the {@link CalcModel} in place,
+    * so committed operations of the {@link HistoryRenderer} aren't valid anymore
+    *
+    * @param type - current operation type
+    * @return true if history is cleared
+    */
+   private boolean isOperationTypeClearingHistory(OperationType type) {
+      return CLEAR == type || EQUAL == type;
+   }
+
    /**
     * Verifies is reset overflow effects possible
     *
@@ -7,6 +7,10 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.LinkedList;
 
+import static win_calculator.controller.utils.ControllerUtils.DISPLAY_PATTERN;
+import static win_calculator.controller.utils.NumberFormatters.WITHOUT_SEPARATOR;
+import static win_calculator.controller.utils.NumberFormatters.getInputFormatter;
+
 /**
  * Class builds number from digits and return BigDecimal or String value
  */
@@ -28,11 +32,6 @@ public class NumberBuilder {
     * Constant of minus representation at String
     */
    private static final String MINUS_STR = "-";
-   /**
-    * Constant of String pattern for converting BigDecimal number to String for
-    * display label
-    */
-   private static final String DISPLAY_PATTERN = "#############,###.################";
 
    /**
     * LinkedList of current entered digits chain
@@ -57,10 +56,11 @@ public class NumberBuilder {
    /**
     * Method resets number, current digit's chain,
     * previous digit's chain and sign
+    * Current digit's chain is cleared in place
     */
    void clean() {
       number = null;
-      digitsChain = new LinkedList<>();
+      digitsChain.clear();
       previousChain = null;
       resetPositive();
    }
@@ -331,14 +331,12 @@ public class NumberBuilder {
     */
    private String convertNumberToString() {
       LinkedList<NumberSymbol> chain = selectChainForConverting();
-      DecimalFormat format = new DecimalFormat(DISPLAY_PATTERN);
+      int fractionDigits = WITHOUT_SEPARATOR;
       BigDecimal number;
       if (chain != null) {
 
          if (chainContainsComma(chain)) {
-            format.setDecimalSeparatorAlwaysShown(true);
-            int minFractionDigits = getMinFractionDigits(chain);
-            format.setMinimumFractionDigits(minFractionDigits);
+            fractionDigits = getMinFractionDigits(chain);
          }
 
          number = new BigDecimal(buildStringFromChain(chain));
@@ -346,6 +344,8 @@ public class NumberBuilder {
          number = this.number;
       }
 
+      DecimalFormat format = getInputFormatter(DISPLAY_PATTERN, fractionDigits);
+
       String convertedNumber = format.format(number);
 
       if (!positive) {
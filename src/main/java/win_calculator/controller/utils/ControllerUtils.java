@@ -5,14 +5,14 @@ import win_calculator.model.operations.OperationType;
 import win_calculator.model.operations.Number;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.regex.Pattern;
 
+import static win_calculator.controller.utils.NumberFormatters.getDisplayFormatter;
+import static win_calculator.controller.utils.NumberFormatters.getFormatter;
 import static win_calculator.model.operations.OperationType.*;
 
 /**
@@ -47,18 +47,15 @@ public abstract class ControllerUtils {
     * Constant: exponent symbol for DecimalFormat
     */
    private static final String SIMPLE_E_SEPARATOR = "e";
-   /**
-    * Constant: exponent part of string pattern for DecimalFormat
-    */
-   private static final String E_PART_OF_FORMAT = "#E0";
    /**
     * Constant: default DecimalFormat string pattern for history label
     */
    private static final String HISTORY_PATTERN = "################.################";
    /**
-    * Constant: DecimalFormat string pattern with 16 required digits after dot
+    * Constant: default DecimalFormat string pattern for display label
+    * It's the only copy of pattern, because display formatting and digit grouping are selected by it
     */
-   private static final String INTEGER_AND_DECIMAL_PART = "0.0000000000000000";
+   public static final String DISPLAY_PATTERN = "#############,###.################";
 
    /**
     * Constant: separator between operations at history string
@@ -113,18 +110,18 @@ public abstract class ControllerUtils {
     * Constant: max number length
     */
    private static final int MAX_VISIBLE_NUMBER_LENGTH = 16;
-   /**
-    * Constant: max fractional part length
-    */
-   private static final int MAX_FRACTIONAL_PART = 17;
    /**
     * Constant: maximum possible BigDecimal number without exponent representation
     */
    private static final BigDecimal MAX_NUMBER_WITHOUT_EXPONENT = BigDecimal.valueOf(9999999999999999L);
    /**
-    * Constant: minimum possible BigDecimal number without exponent representation
+    * Constant: minimum possible negative BigDecimal number without exponent representation
+    */
+   private static final BigDecimal MIN_NEGATIVE_WITHOUT_EXPONENT = MAX_NUMBER_WITHOUT_EXPONENT.negate();
+   /**
+    * Constant: BigDecimal minus one
     */
-   private static final BigDecimal MIN_NUMBER_WITHOUT_EXPONENT = BigDecimal.valueOf(0.0000000000000001);
+   private static final BigDecimal MINUS_ONE = BigDecimal.ONE.negate();
 
    /**
     * Verifies is String value of number contains coma
@@ -147,34 +144,44 @@ public abstract class ControllerUtils {
    }
 
    /**
-    * Converts given history of operations at LinkedList to the String
+    * Converts given history of operations at List to the String
     *
-    * @param history - given history of operations at LinkedList
+    * @param history - given history of operations at List
     * @return String of converted history
     */
-   public static String convertHistoryToString(LinkedList<Operation> history) {
+   public static String convertHistoryToString(List<Operation> history) {
       StringBuilder builder = new StringBuilder();
-      history.forEach(operation -> {
-         OperationType type = operation.getType();
-         String symbol = selectOperationSymbol(type);
-
-         if (isExtraOperation(type)) {
-            String result = addExtraOperationToString(builder.toString(), symbol);
-            builder.delete(0, builder.length());
-            builder.append(result);
-         } else if (NUMBER == type) {
-            builder.append(convertNumberToString(((Number) operation).getValue(), HISTORY_PATTERN));
-         } else if (PERCENT != type) {
-            builder.append(symbol);
-         }
-
-      });
+      history.forEach(operation -> appendOperationToHistory(builder, operation));
 
       return builder.toString();
    }
 
    /**
-    * Converts given BigDecimal number to String by {@link DecimalFormat}
+    * Appends given operation to the given String of history
+    * Extra operation wraps number after last separator of history or whole history if separator is absent
+    *
+    * @param builder   - given builder of history String
+    * @param operation - given operation
+    */
+   static void appendOperationToHistory(StringBuilder builder, Operation operation) {
+      OperationType type = operation.getType();
+      String symbol = selectOperationSymbol(type);
+
+      if (isExtraOperation(type)) {
+         String result = addExtraOperationToString(builder.toString(), symbol);
+         builder.delete(0, builder.length());
+         builder.append(result);
+      } else if (NUMBER == type) {
+         builder.append(convertNumberToString(((Number) operation).getValue(), HISTORY_PATTERN));
+      } else if (PERCENT != type) {
+         builder.append(symbol);
+      }
+   }
+
+   /**
+    * Converts given BigDecimal number to String
+    * Patterns of history and display labels are rendered by {@link DisplayFormatter},
+    * other patterns are rendered by {@link DecimalFormat}
     *
     * @param givenNumber - given BigDecimal number for converting
     * @param pattern     - String pattern for {@link DecimalFormat}
@@ -184,9 +191,17 @@ public abstract class ControllerUtils {
       String stringRepresentation;
       if (givenNumber != null) {
          BigDecimal number = optimizeScale(givenNumber).stripTrailingZeros();
-         String currentPattern = preparePattern(number, pattern);
-         DecimalFormat formatter = initFormatter(currentPattern, selectSeparator(number));
-         stringRepresentation = formatter.format(number);
+         DisplayFormatter displayFormatter = getDisplayFormatter();
+
+         if (isPatternHasToBeChanged(number)) {
+            stringRepresentation = displayFormatter.formatExponent(number, selectSeparator(number));
+         } else if (isRenderedByDisplayFormatter(number, pattern)) {
+            stringRepresentation = displayFormatter.formatPlain(number, DISPLAY_PATTERN.equals(pattern));
+         } else {
+            DecimalFormat formatter = getFormatter(pattern, selectSeparator(number));
+            stringRepresentation = formatter.format(number);
+         }
+
       } else {
          stringRepresentation = ZERO_STR;
       }
@@ -223,22 +238,6 @@ public abstract class ControllerUtils {
       return operationSymbols.get(type);
    }
 
-   /**
-    * Initializes {@link DecimalFormat}
-    *
-    * @param pattern   - given pattern for {@link DecimalFormat}
-    * @param separator - given separator for {@link DecimalFormat}
-    * @return initialized instance of {@link DecimalFormat}
-    */
-   private static DecimalFormat initFormatter(String pattern, String separator) {
-      DecimalFormatSymbols symbols = new DecimalFormatSymbols();
-      symbols.setExponentSeparator(separator);
-      DecimalFormat formatter = new DecimalFormat(pattern);
-      formatter.setDecimalFormatSymbols(symbols);
-
-      return formatter;
-   }
-
    /**
     * Selects separator for {@link DecimalFormat} depends on given number
     *
@@ -253,7 +252,7 @@ public abstract class ControllerUtils {
          separator = SIMPLE_E_SEPARATOR;
       }
 
-      if (number.abs().compareTo(MAX_NUMBER_WITHOUT_EXPONENT) > 0) {
+      if (isNumberBigger(number)) {
          separator += PLUS;
       }
 
@@ -261,35 +260,31 @@ public abstract class ControllerUtils {
    }
 
    /**
-    * Prepares String pattern for {@link DecimalFormat} by given number
-    * and given String pattern
+    * Verifies is given number without exponent rendered by {@link DisplayFormatter}
+    * with given pattern
     *
     * @param number  - given BigDecimal number
     * @param pattern - given pattern
-    * @return prepared String pattern
+    * @return true if pattern is pattern of history or display label
+    * and number doesn't need rounding by pattern
     */
-   private static String preparePattern(BigDecimal number, String pattern) {
-      String currentPattern;
-      if (isPatternHasToBeChanged(number)) {
-         currentPattern = truncatePattern(number) + E_PART_OF_FORMAT;
-      } else {
-         currentPattern = pattern;
-      }
+   private static boolean isRenderedByDisplayFormatter(BigDecimal number, String pattern) {
+      boolean isKnownPattern = HISTORY_PATTERN.equals(pattern) || DISPLAY_PATTERN.equals(pattern);
 
-      return currentPattern;
+      return isKnownPattern && number.scale() <= MAX_VISIBLE_NUMBER_LENGTH;
    }
 
    /**
     * Verifies is default pattern has to be changed that used in DecimalFormat
     * for given BigDecimal number
+    * Fractional number is less than 1e-16 moved by its precision, if its scale is more than visible digits
     *
     * @param number - given BigDecimal number
     * @return boolean verification result
     */
    private static boolean isPatternHasToBeChanged(BigDecimal number) {
-      boolean isNumberBigger = number.abs().compareTo(MAX_NUMBER_WITHOUT_EXPONENT) > 0;
-      BigDecimal borderValue = MIN_NUMBER_WITHOUT_EXPONENT.movePointRight(number.precision() - 1);
-      boolean isNumberSmaller = isNumberFractional(number) && (number.abs().compareTo(borderValue) < 0);
+      boolean isNumberBigger = isNumberBigger(number);
+      boolean isNumberSmaller = isNumberFractional(number) && number.scale() > MAX_VISIBLE_NUMBER_LENGTH;
 
       return isNumberBigger || isNumberSmaller;
    }
@@ -301,10 +296,21 @@ public abstract class ControllerUtils {
     * @return boolean verification result
     */
    private static boolean isNumberFractional(BigDecimal number) {
-      BigDecimal numberAbs = number.abs();
+      return (number.compareTo(BigDecimal.ONE) < 1) &&
+              (number.compareTo(MINUS_ONE) > -1) &&
+              (number.signum() != 0);
+   }
 
-      return (numberAbs.compareTo(BigDecimal.ONE) < 1) &&
-              (numberAbs.compareTo(BigDecimal.ZERO) > 0);
+   /**
+    * Verifies is absolute value of given BigDecimal number bigger than
+    * maximum possible number without exponent
+    *
+    * @param number - given BigDecimal number
+    * @return boolean verification result
+    */
+   private static boolean isNumberBigger(BigDecimal number) {
+      return number.compareTo(MAX_NUMBER_WITHOUT_EXPONENT) > 0 ||
+              number.compareTo(MIN_NEGATIVE_WITHOUT_EXPONENT) < 0;
    }
 
    /**
@@ -330,20 +336,6 @@ public abstract class ControllerUtils {
       return scale;
    }
 
-   /**
-    * Truncates basic pattern for {@link DecimalFormat} depends on
-    * given BigDecimal number
-    *
-    * @param number - given BigDecimal number
-    * @return truncated String pattern
-    */
-   private static String truncatePattern(BigDecimal number) {
-      int precision = number.precision();
-      int index = INTEGER_AND_DECIMAL_PART.length() - MAX_FRACTIONAL_PART + precision;
-
-      return INTEGER_AND_DECIMAL_PART.substring(0, index);
-   }
-
    /**
     * Verifies is given BigDecimal number has exponent in range between
     * 4 and 9999
@@ -371,22 +363,18 @@ public abstract class ControllerUtils {
 
    /**
     * Gets whole length for given BigDecimal number
+    * It's count of digits of unscaled value, which aren't at fractional part
     *
-    * @param givenNumber - given BigDecimal number
+    * @param number - given BigDecimal number
     * @return int value of whole length for given BigDecimal number
-    * <p>
-    * was taken from https://stackoverflow.com/a/23773083
     */
-   private static int getWholeLength(BigDecimal givenNumber) {
-      BigInteger number = givenNumber.abs().toBigInteger();
-      double factor = Math.log(2) / Math.log(10);
-      int digitCount = (int) (factor * number.bitLength() + 1);
-
-      if (BigInteger.TEN.pow(digitCount - 1).compareTo(number) > 0) {
-         digitCount--;
+   private static int getWholeLength(BigDecimal number) {
+      int wholeLength = 0;
+      if (number.signum() != 0) {
+         wholeLength = Math.max(number.precision() - number.scale(), 0);
       }
 
-      return digitCount;
+      return wholeLength;
    }
 
    /**
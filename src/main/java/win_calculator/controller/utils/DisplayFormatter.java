@@ -0,0 +1,264 @@
+package win_calculator.controller.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Formatter of numbers for display and history labels
+ * Renders digits of BigDecimal number straight to the reusable char buffer,
+ * so it doesn't create {@link DecimalFormat} internals per call
+ * Produces the same String as {@link DecimalFormat} with patterns of {@link ControllerUtils}
+ * and symbols of the default locale
+ * Isn't thread safe, instances are kept per thread by {@link NumberFormatters}
+ */
+public class DisplayFormatter {
+
+   /**
+    * Constant: count of digits at the group of integer part
+    */
+   private static final int GROUPING_SIZE = 3;
+   /**
+    * Constant: max count of digits of number which unscaled value fits to the long
+    */
+   private static final int MAX_LONG_DIGITS = 18;
+   /**
+    * Constant: max count of digits of exponent
+    */
+   private static final int MAX_EXPONENT_DIGITS = 10;
+   /**
+    * Constant: count of chars for signs and decimal separator at formatted number
+    */
+   private static final int SIGNS_CAPACITY = 3;
+   /**
+    * Constant: pattern of {@link DecimalFormat} for taking of minus sign
+    */
+   private static final String SIGN_PATTERN = "0";
+   /**
+    * Constant: initial capacity of char buffer
+    */
+   private static final int INITIAL_CAPACITY = 64;
+
+   /**
+    * Stores zero digit of the locale
+    */
+   private final char zeroDigit;
+   /**
+    * Stores decimal separator of the locale
+    */
+   private final char decimalSeparator;
+   /**
+    * Stores grouping separator of the locale
+    */
+   private final char groupingSeparator;
+   /**
+    * Stores minus sign of the locale, it may contain direction marks
+    */
+   private final String minusSign;
+
+   /**
+    * Stores values of digits of unscaled number, from most significant one
+    */
+   private char[] digits = new char[MAX_LONG_DIGITS];
+   /**
+    * Stores count of digits of unscaled number
+    */
+   private int digitsCount;
+   /**
+    * Stores chars of formatted number
+    */
+   private char[] buffer = new char[INITIAL_CAPACITY];
+   /**
+    * Stores count of chars of formatted number
+    */
+   private int length;
+
+   /**
+    * Constructs {@link DisplayFormatter} with given symbols
+    *
+    * @param symbols - given symbols of locale
+    */
+   public DisplayFormatter(DecimalFormatSymbols symbols) {
+      zeroDigit = symbols.getZeroDigit();
+      decimalSeparator = symbols.getDecimalSeparator();
+      groupingSeparator = symbols.getGroupingSeparator();
+      minusSign = new DecimalFormat(SIGN_PATTERN, symbols).getNegativePrefix();
+   }
+
+   /**
+    * Formats given number without exponent
+    * Writes all fraction digits of the number, so it has to be rounded to the pattern before
+    *
+    * @param number     - given BigDecimal number
+    * @param isGrouping - given flag for grouping digits of integer part
+    * @return String of given number
+    */
+   public String formatPlain(BigDecimal number, boolean isGrouping) {
+      readDigits(number);
+      length = 0;
+      int scale = number.scale();
+      int integerLength = digitsCount - scale;
+      ensureCapacity(SIGNS_CAPACITY * minusSign.length() + Math.max(integerLength, 1) * 2 + Math.max(scale, 0));
+
+      if (number.signum() < 0) {
+         append(minusSign);
+      }
+
+      if (integerLength > 0) {
+         for (int i = 0; i < integerLength; i++) {
+            appendDigit(digitAt(i));
+
+            int remaining = integerLength - i - 1;
+            if (isGrouping && remaining > 0 && remaining % GROUPING_SIZE == 0) {
+               append(groupingSeparator);
+            }
+         }
+      } else {
+         append(zeroDigit);
+      }
+
+      if (scale > 0) {
+         append(decimalSeparator);
+         for (int i = integerLength; i < digitsCount; i++) {
+            appendDigit(digitAt(i));
+         }
+      }
+
+      return new String(buffer, 0, length);
+   }
+
+   /**
+    * Formats given number with exponent and one digit of integer part
+    *
+    * @param number    - given BigDecimal number without trailing zeros
+    * @param separator - given exponent separator
+    * @return String of given number
+    */
+   public String formatExponent(BigDecimal number, String separator) {
+      readDigits(number);
+      length = 0;
+      ensureCapacity(SIGNS_CAPACITY * minusSign.length() + digitsCount + separator.length() + MAX_EXPONENT_DIGITS);
+
+      if (number.signum() < 0) {
+         append(minusSign);
+      }
+
+      appendDigit(digits[0]);
+      if (digitsCount > 1) {
+         append(decimalSeparator);
+         for (int i = 1; i < digitsCount; i++) {
+            appendDigit(digits[i]);
+         }
+      }
+
+      append(separator);
+
+      int exponent = digitsCount - number.scale() - 1;
+      if (exponent < 0) {
+         append(minusSign);
+      }
+      appendExponent(Math.abs(exponent));
+
+      return new String(buffer, 0, length);
+   }
+
+   /**
+    * Reads digits of unscaled value of given number
+    *
+    * @param number - given BigDecimal number
+    */
+   private void readDigits(BigDecimal number) {
+      BigInteger unscaled = number.unscaledValue();
+      if (number.precision() <= MAX_LONG_DIGITS) {
+         long value = Math.abs(unscaled.longValue());
+         digitsCount = number.precision();
+         for (int i = digitsCount - 1; i >= 0; i--) {
+            digits[i] = (char) (value % 10);
+            value /= 10;
+         }
+      } else {
+         String string = unscaled.abs().toString();
+         digitsCount = string.length();
+         if (digits.length < digitsCount) {
+            digits = new char[digitsCount];
+         }
+
+         for (int i = 0; i < digitsCount; i++) {
+            digits[i] = (char) (string.charAt(i) - '0');
+         }
+      }
+   }
+
+   /**
+    * Getter for digit of unscaled value at given position
+    * Positions after last digit are zeros of negative scale
+    *
+    * @param index - given position from most significant digit
+    * @return value of digit
+    */
+   private char digitAt(int index) {
+      char digit = 0;
+      if (index >= 0 && index < digitsCount) {
+         digit = digits[index];
+      }
+
+      return digit;
+   }
+
+   /**
+    * Appends digits of given non negative exponent
+    *
+    * @param exponent - given exponent
+    */
+   private void appendExponent(int exponent) {
+      int divisor = 1;
+      while (divisor <= exponent / 10) {
+         divisor *= 10;
+      }
+
+      for (; divisor > 0; divisor /= 10) {
+         appendDigit((char) (exponent / divisor % 10));
+      }
+   }
+
+   /**
+    * Appends given value of digit by zero digit of the locale
+    *
+    * @param digit - given value of digit
+    */
+   private void appendDigit(char digit) {
+      append((char) (zeroDigit + digit));
+   }
+
+   /**
+    * Appends given String to the buffer
+    *
+    * @param string - given String
+    */
+   private void append(String string) {
+      string.getChars(0, string.length(), buffer, length);
+      length += string.length();
+   }
+
+   /**
+    * Appends given char to the buffer
+    *
+    * @param ch - given char
+    */
+   private void append(char ch) {
+      buffer[length++] = ch;
+   }
+
+   /**
+    * Grows buffer if it's smaller than given capacity
+    *
+    * @param capacity - given count of chars
+    */
+   private void ensureCapacity(int capacity) {
+      if (buffer.length < capacity) {
+         buffer = new char[Math.max(capacity, buffer.length * 2)];
+      }
+   }
+
+}
@@ -0,0 +1,135 @@
+package win_calculator.controller.utils;
+
+import win_calculator.model.operations.Operation;
+
+import java.util.List;
+
+import static win_calculator.controller.utils.ControllerUtils.appendOperationToHistory;
+import static win_calculator.model.utils.ModelUtils.isBinaryOperation;
+
+/**
+ * Incremental converter of history of operations to the String
+ * Caches String of committed operations, i.e. operations before last binary operation,
+ * because extra operations after binary operation change only String after its separator
+ * Re-renders only trailing segment from the last committed binary operation,
+ * so the result is the same as {@link ControllerUtils#convertHistoryToString(List)}
+ * <p>
+ * Committed operations are validated by identity of the history list, of its first operation
+ * and of the last committed operation: the history changes only its first number
+ * and its last binary operation in place and never removes committed binary operation
+ */
+public class HistoryRenderer {
+
+   /**
+    * Stores history list which committed operations belong to
+    */
+   private List<Operation> renderedHistory;
+   /**
+    * Stores String of committed operations
+    */
+   private final StringBuilder committedText = new StringBuilder();
+   /**
+    * Stores count of committed operations, it's index of binary operation which starts trailing segment
+    */
+   private int committedCount;
+   /**
+    * Stores first operation of committed operations
+    */
+   private Operation firstOperation;
+   /**
+    * Stores last operation of committed operations
+    */
+   private Operation lastCommittedOperation;
+
+   /**
+    * Converts given history of operations at List to the String
+    * Commits operations before last binary operation of the given history
+    *
+    * @param history - given history of operations at List
+    * @return String of converted history
+    */
+   public String render(List<Operation> history) {
+      if (!isCommittedValid(history)) {
+         reset(history);
+      }
+
+      StringBuilder trailingText = new StringBuilder();
+      int lastBinaryIndex = committedCount;
+      int committedLength = 0;
+      for (int i = committedCount; i < history.size(); i++) {
+         Operation operation = history.get(i);
+
+         if (i > committedCount && isBinaryOperation(operation.getType())) {
+            lastBinaryIndex = i;
+            committedLength = trailingText.length();
+         }
+
+         appendOperationToHistory(trailingText, operation);
+      }
+
+      String result = committedText.toString() + trailingText;
+      if (lastBinaryIndex > committedCount) {
+         commit(history, lastBinaryIndex, trailingText.substring(0, committedLength));
+      }
+
+      return result;
+   }
+
+   /**
+    * Verifies are committed operations still at the beginning of the given history
+    *
+    * @param history - given history of operations at List
+    * @return true if String of committed operations may be used
+    */
+   private boolean isCommittedValid(List<Operation> history) {
+      boolean isValid;
+      if (history != renderedHistory) {
+         isValid = false;
+      } else if (committedCount == 0) {
+         isValid = true;
+      } else {
+         isValid = history.size() > committedCount &&
+                 history.get(0) == firstOperation &&
+                 history.get(committedCount - 1) == lastCommittedOperation &&
+                 isBinaryOperation(history.get(committedCount).getType());
+      }
+
+      return isValid;
+   }
+
+   /**
+    * Removes committed operations, so next history is rendered from the first operation
+    * Is needed if history is cleared in place
+    */
+   public void clear() {
+      reset(null);
+   }
+
+   /**
+    * Removes committed operations and binds renderer to the given history
+    *
+    * @param history - given history of operations at List
+    */
+   private void reset(List<Operation> history) {
+      renderedHistory = history;
+      committedText.setLength(0);
+      committedCount = 0;
+      firstOperation = null;
+      lastCommittedOperation = null;
+   }
+
+   /**
+    * Commits operations of the given history before given index of binary operation
+    *
+    * @param history     - given history of operations at List
+    * @param binaryIndex - given index of binary operation
+    * @param text        - String of operations between previous and given binary operations
+    */
+   private void commit(List<Operation> history, int binaryIndex, String text) {
+      committedText.append(text);
+      committedCount = binaryIndex;
+      firstOperation = history.get(0);
+      lastCommittedOperation = history.get(binaryIndex - 1);
+   }
+
+}
@@ -0,0 +1,160 @@
+package win_calculator.controller.utils;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Abstract class with pool of {@link DecimalFormat} and {@link DisplayFormatter} instances
+ * Formatters are cached per thread by pattern and exponent separator or count of fraction digits,
+ * because {@link DecimalFormat} isn't thread safe
+ * Cached formatters of thread are created again if default FORMAT locale is changed, so separators
+ * follow the default locale the same as new formatters
+ * Returned formatters are shared, so they mustn't be changed by caller
+ */
+public abstract class NumberFormatters {
+
+   /**
+    * Constant: count of fraction digits of input formatter which doesn't show decimal separator
+    */
+   public static final int WITHOUT_SEPARATOR = -1;
+
+   /**
+    * Constant: formatters of the current thread
+    */
+   private static final ThreadLocal<ThreadFormatters> FORMATTERS = ThreadLocal.withInitial(ThreadFormatters::new);
+
+   /**
+    * Getter for {@link DisplayFormatter} of the current thread
+    *
+    * @return cached instance of {@link DisplayFormatter}
+    */
+   public static DisplayFormatter getDisplayFormatter() {
+      return getThreadFormatters().displayFormatter;
+   }
+
+   /**
+    * Getter for {@link DecimalFormat} with given pattern and exponent separator
+    *
+    * @param pattern   - given pattern for {@link DecimalFormat}
+    * @param separator - given exponent separator for {@link DecimalFormat}
+    * @return cached instance of {@link DecimalFormat} of the current thread
+    */
+   public static DecimalFormat getFormatter(String pattern, String separator) {
+      HashMap<String, DecimalFormat> formatters = getThreadFormatters().formatters
+              .computeIfAbsent(pattern, key -> new HashMap<>());
+      DecimalFormat formatter = formatters.get(separator);
+      if (formatter == null) {
+         formatter = initFormatter(pattern, separator);
+         formatters.put(separator, formatter);
+      }
+
+      return formatter;
+   }
+
+   /**
+    * Getter for {@link DecimalFormat} of inputted number with given pattern
+    * Formatter shows decimal separator and given count of fraction digits
+    * if count isn't {@link #WITHOUT_SEPARATOR}
+    *
+    * @param pattern        - given pattern for {@link DecimalFormat}
+    * @param fractionDigits - given count of fraction digits
+    * @return cached instance of {@link DecimalFormat} of the current thread
+    */
+   public static DecimalFormat getInputFormatter(String pattern, int fractionDigits) {
+      HashMap<Integer, DecimalFormat> formatters = getThreadFormatters().inputFormatters
+              .computeIfAbsent(pattern, key -> new HashMap<>());
+      DecimalFormat formatter = formatters.get(fractionDigits);
+      if (formatter == null) {
+         formatter = initInputFormatter(pattern, fractionDigits);
+         formatters.put(fractionDigits, formatter);
+      }
+
+      return formatter;
+   }
+
+   /**
+    * Getter for formatters of the current thread, which are created with the current default FORMAT locale
+    *
+    * @return formatters of the current thread
+    */
+   private static ThreadFormatters getThreadFormatters() {
+      ThreadFormatters threadFormatters = FORMATTERS.get();
+      Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+      if (!locale.equals(threadFormatters.locale)) {
+         threadFormatters.reset(locale);
+      }
+
+      return threadFormatters;
+   }
+
+   /**
+    * Initializes {@link DecimalFormat}
+    *
+    * @param pattern   - given pattern for {@link DecimalFormat}
+    * @param separator - given separator for {@link DecimalFormat}
+    * @return initialized instance of {@link DecimalFormat}
+    */
+   private static DecimalFormat initFormatter(String pattern, String separator) {
+      DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+      symbols.setExponentSeparator(separator);
+      DecimalFormat formatter = new DecimalFormat(pattern);
+      formatter.setDecimalFormatSymbols(symbols);
+
+      return formatter;
+   }
+
+   /**
+    * Initializes {@link DecimalFormat} of inputted number
+    *
+    * @param pattern        - given pattern for {@link DecimalFormat}
+    * @param fractionDigits - given count of fraction digits
+    * @return initialized instance of {@link DecimalFormat}
+    */
+   private static DecimalFormat initInputFormatter(String pattern, int fractionDigits) {
+      DecimalFormat formatter = new DecimalFormat(pattern);
+      if (fractionDigits != WITHOUT_SEPARATOR) {
+         formatter.setDecimalSeparatorAlwaysShown(true);
+         formatter.setMinimumFractionDigits(fractionDigits);
+      }
+
+      return formatter;
+   }
+
+   /**
+    * Entity class of formatters of one thread with locale, which they were created with
+    */
+   private static class ThreadFormatters {
+
+      /**
+       * Stores formatters by pattern and exponent separator
+       */
+      private final HashMap<String, HashMap<String, DecimalFormat>> formatters = new HashMap<>();
+      /**
+       * Stores input formatters by pattern and count of fraction digits
+       */
+      private final HashMap<String, HashMap<Integer, DecimalFormat>> inputFormatters = new HashMap<>();
+      /**
+       * Stores default FORMAT locale of formatters
+       */
+      private Locale locale;
+      /**
+       * Stores display formatter with symbols of the locale
+       */
+      private DisplayFormatter displayFormatter;
+
+      /**
+       * Removes formatters of previous locale and creates display formatter with symbols of given locale
+       *
+       * @param locale - given default FORMAT locale
+       */
+      private void reset(Locale locale) {
+         formatters.clear();
+         inputFormatters.clear();
+         displayFormatter = new DisplayFormatter(new DecimalFormatSymbols(locale));
+         this.locale = locale;
+      }
+   }
+
+}
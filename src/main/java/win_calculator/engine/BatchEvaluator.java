@@ -0,0 +1,208 @@
+package win_calculator.engine;
+
+import win_calculator.model.ExtraOperationCache;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Batch evaluator of keystroke scripts at the {@link CalcEngine}
+ * Reads scripts line by line, evaluates each script at clean calculator session of {@link SessionPool}
+ * and writes result line immediately, so memory doesn't depend on count of scripts
+ * Result line contains display text, history text and status separated by tabs
+ * Status is {@link #OK_STATUS}, name of {@link win_calculator.model.exceptions.ExceptionType}
+ * or {@link #INVALID_STATUS} with message if script contains unknown token
+ * Unexpected exception of calculator is reported with {@link #FAILED_STATUS} and class of exception
+ * and doesn't stop the batch
+ * Run: java -cp WinCalculator.jar win_calculator.engine.BatchEvaluator [input file] [output file]
+ */
+public class BatchEvaluator {
+
+   /**
+    * Constant: status of script evaluated without error
+    */
+   public static final String OK_STATUS = "OK";
+   /**
+    * Constant: status of script with unknown token
+    */
+   public static final String INVALID_STATUS = "INVALID";
+   /**
+    * Constant: status of script which caused unexpected exception of calculator
+    */
+   public static final String FAILED_STATUS = "FAILED";
+   /**
+    * Constant: separator of fields at the result line
+    */
+   private static final char FIELD_SEPARATOR = '\t';
+   /**
+    * Constant: separator of status and message at the result line of invalid script
+    */
+   private static final String MESSAGE_SEPARATOR = ": ";
+   /**
+    * Constant: file name argument for standard input and output
+    */
+   private static final String STANDARD_STREAM = "-";
+   /**
+    * Constant: max count of idle sessions for each available processor
+    */
+   private static final int SESSIONS_PER_PROCESSOR = 2;
+   /**
+    * Constant: max count of extra operation results shared by sessions
+    */
+   private static final int CACHE_CAPACITY = 1024;
+
+   /**
+    * The instance of {@link SessionPool}
+    */
+   private final SessionPool sessionPool;
+
+   /**
+    * Constructs {@link BatchEvaluator} with pool of sessions, which share cache of extra operation results
+    */
+   public BatchEvaluator() {
+      this(new SessionPool(Runtime.getRuntime().availableProcessors() * SESSIONS_PER_PROCESSOR,
+              new ExtraOperationCache(CACHE_CAPACITY)));
+   }
+
+   /**
+    * Constructs {@link BatchEvaluator} with given pool of sessions
+    *
+    * @param sessionPool - given pool of sessions
+    */
+   BatchEvaluator(SessionPool sessionPool) {
+      this.sessionPool = sessionPool;
+   }
+
+   /**
+    * Evaluates scripts from given file or standard input and writes results to given file or standard output
+    *
+    * @param args - optional input file and output file, "-" for standard stream
+    * @throws IOException if files can't be read or written
+    */
+   public static void main(String[] args) throws IOException {
+      BufferedReader reader = openReader(args, 0);
+      Writer writer = openWriter(args, 1);
+      try {
+         new BatchEvaluator().evaluate(reader, writer);
+      } finally {
+         reader.close();
+         writer.close();
+      }
+   }
+
+   /**
+    * Opens reader of scripts from file at given argument or from standard input
+    *
+    * @param args  - given arguments of application
+    * @param index - given index of argument with file name
+    * @return opened reader
+    * @throws IOException if file can't be opened
+    */
+   static BufferedReader openReader(String[] args, int index) throws IOException {
+      BufferedReader reader;
+      if (args.length > index && !STANDARD_STREAM.equals(args[index])) {
+         reader = Files.newBufferedReader(Paths.get(args[index]), StandardCharsets.UTF_8);
+      } else {
+         reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+      }
+
+      return reader;
+   }
+
+   /**
+    * Opens writer of results to file at given argument or to standard output
+    *
+    * @param args  - given arguments of application
+    * @param index - given index of argument with file name
+    * @return opened writer
+    * @throws IOException if file can't be opened
+    */
+   static Writer openWriter(String[] args, int index) throws IOException {
+      Writer writer;
+      if (args.length > index && !STANDARD_STREAM.equals(args[index])) {
+         writer = Files.newBufferedWriter(Paths.get(args[index]), StandardCharsets.UTF_8);
+      } else {
+         writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+      }
+
+      return writer;
+   }
+
+   /**
+    * Evaluates scripts from given reader and writes result line for each script to given writer
+    * Writer isn't flushed after each line, so buffered writer doesn't lose its buffering
+    *
+    * @param reader - given reader of scripts, one script per line
+    * @param writer - given writer of results
+    * @return count of evaluated scripts
+    * @throws IOException from given reader or writer
+    */
+   public long evaluate(BufferedReader reader, Writer writer) throws IOException {
+      long count = 0;
+      String script = reader.readLine();
+      while (script != null) {
+         writeResult(evaluateScript(script), writer);
+         count++;
+         script = reader.readLine();
+      }
+      writer.flush();
+
+      return count;
+   }
+
+   /**
+    * Evaluates given script at clean calculator session
+    * Session of script with unexpected exception isn't returned to the pool
+    * Method may be called from several threads, because {@link SessionPool} is thread safe
+    *
+    * @param script - given String of keystroke tokens
+    * @return result line of script without line separator
+    */
+   String evaluateScript(String script) {
+      StringBuilder line = new StringBuilder();
+      CalcEngine session = sessionPool.acquire();
+      try {
+         EngineResult result = session.evaluate(script);
+         line.append(result.getDisplay()).append(FIELD_SEPARATOR).append(result.getHistory()).append(FIELD_SEPARATOR);
+
+         if (result.isError()) {
+            line.append(result.getExceptionType().name());
+         } else {
+            line.append(OK_STATUS);
+         }
+         sessionPool.release(session);
+
+      } catch (UnknownTokenException e) {
+         sessionPool.release(session);
+         line.setLength(0);
+         line.append(FIELD_SEPARATOR).append(FIELD_SEPARATOR).append(INVALID_STATUS)
+                 .append(MESSAGE_SEPARATOR).append(e.getMessage());
+      } catch (RuntimeException e) {
+         line.setLength(0);
+         line.append(FIELD_SEPARATOR).append(FIELD_SEPARATOR).append(FAILED_STATUS)
+                 .append(MESSAGE_SEPARATOR).append(e.getClass().getName());
+      }
+
+      return line.toString();
+   }
+
+   /**
+    * Writes given result line with line separator
+    *
+    * @param line   - given result line
+    * @param writer - given writer of results
+    * @throws IOException from given writer
+    */
+   static void writeResult(String line, Writer writer) throws IOException {
+      writer.write(line);
+      writer.write(System.lineSeparator());
+   }
+
+}
@@ -0,0 +1,159 @@
+package win_calculator.engine;
+
+import win_calculator.controller.CalcController;
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.CalcModel;
+import win_calculator.model.ExtraOperationCache;
+import win_calculator.model.operations.Operation;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static win_calculator.engine.TokenParser.createDigitsMap;
+import static win_calculator.engine.TokenParser.createOperationsMap;
+import static win_calculator.engine.TokenParser.parse;
+
+/**
+ * Headless facade of the calculator
+ * Wraps {@link CalcController} and its {@link win_calculator.model.CalcModel} without JavaFX classes,
+ * so calculator can be used at services and batch jobs
+ * Receives keystroke tokens of {@link TokenParser} and returns {@link EngineResult}
+ * Instance keeps state of calculator session between keystrokes and isn't thread safe
+ */
+public class CalcEngine {
+
+   /**
+    * Constant: texts of display and history at the start of session
+    */
+   private static final String[] START_RESPONSE = {"0", ""};
+
+   /**
+    * The instance of {@link CalcController}
+    */
+   private final CalcController controller;
+   /**
+    * Stores operations by tokens
+    */
+   private final HashMap<String, Operation> operations = createOperationsMap();
+   /**
+    * Stores digits by tokens
+    */
+   private final HashMap<String, NumberSymbol> digits = createDigitsMap();
+
+   /**
+    * Stores texts of display and history after last keystroke
+    */
+   private String[] lastResponse = START_RESPONSE;
+   /**
+    * Stores result of last keystroke, null if it isn't created yet
+    */
+   private EngineResult lastResult;
+
+   /**
+    * Constructs {@link CalcEngine} without cache of extra operation results
+    */
+   public CalcEngine() {
+      this(null);
+   }
+
+   /**
+    * Constructs {@link CalcEngine} with given {@link ExtraOperationCache},
+    * which may be shared by sessions at several threads
+    *
+    * @param cache - given cache of extra operation results, may be null
+    */
+   public CalcEngine(ExtraOperationCache cache) {
+      controller = new CalcController(new CalcModel(cache));
+   }
+
+   /**
+    * Sends given keystroke token to the {@link CalcController}
+    *
+    * @param token - given digit, decimal separator or name of operation
+    * @return result of keystroke
+    * @throws UnknownTokenException if token is unknown
+    */
+   public EngineResult press(String token) {
+      NumberSymbol digit = digits.get(token);
+      if (digit != null) {
+         pressDigit(digit);
+      } else {
+         Operation operation = operations.get(token);
+
+         if (operation == null) {
+            throw new UnknownTokenException(token);
+         }
+         pressOperation(operation);
+      }
+
+      return getLastResult();
+   }
+
+   /**
+    * Sends given digit to the {@link CalcController} without creating of {@link EngineResult}
+    *
+    * @param digit - given digit or decimal separator
+    */
+   void pressDigit(NumberSymbol digit) {
+      lastResponse = controller.handleDigit(digit);
+      lastResult = null;
+   }
+
+   /**
+    * Sends given operation to the {@link CalcController} without creating of {@link EngineResult}
+    *
+    * @param operation - given operation
+    */
+   void pressOperation(Operation operation) {
+      lastResponse = controller.handleOperation(operation);
+      lastResult = null;
+   }
+
+   /**
+    * Sends keystroke tokens of given expression to the {@link CalcController} one by one
+    * Continues current session, so expression may start with result of previous one
+    * Expression with unknown token is rejected before the first keystroke
+    *
+    * @param expression - given String of tokens separated by whitespaces
+    * @return result of the last keystroke, or previous result if expression is empty
+    * @throws UnknownTokenException if expression contains unknown token
+    */
+   public EngineResult evaluate(String expression) {
+      List<String> tokens = parse(expression);
+      for (String token : tokens) {
+
+         if (!digits.containsKey(token) && !operations.containsKey(token)) {
+            throw new UnknownTokenException(token);
+         }
+
+      }
+      for (String token : tokens) {
+         press(token);
+      }
+
+      return getLastResult();
+   }
+
+   /**
+    * Restores state of new session in place, so engine is reused without reallocation
+    */
+   public void reset() {
+      controller.reset();
+      lastResponse = START_RESPONSE;
+      lastResult = null;
+   }
+
+   /**
+    * Getter for result of last keystroke
+    *
+    * @return result of last keystroke
+    */
+   public EngineResult getLastResult() {
+      if (lastResult == null) {
+         lastResult = new EngineResult(lastResponse[0], lastResponse[1], controller.getLastExceptionType());
+      }
+
+      return lastResult;
+   }
+
+}
@@ -0,0 +1,85 @@
+package win_calculator.engine;
+
+import win_calculator.model.exceptions.ExceptionType;
+
+/**
+ * Result of keystroke at the {@link CalcEngine}
+ * Stores texts of display and history, as they are shown at the calculator,
+ * and type of exception if keystroke caused an error
+ */
+public class EngineResult {
+
+   /**
+    * Stores text of display
+    */
+   private final String display;
+   /**
+    * Stores text of history
+    */
+   private final String history;
+   /**
+    * Stores {@link ExceptionType} of error, null if keystroke was without error
+    */
+   private final ExceptionType exceptionType;
+
+   /**
+    * Constructs {@link EngineResult} with given texts and type of error
+    *
+    * @param display       - given text of display
+    * @param history       - given text of history
+    * @param exceptionType - given type of error, may be null
+    */
+   EngineResult(String display, String history, ExceptionType exceptionType) {
+      this.display = display;
+      this.history = history;
+      this.exceptionType = exceptionType;
+   }
+
+   /**
+    * Getter for text of display
+    * Contains formatted number or message of error
+    *
+    * @return String text of display
+    */
+   public String getDisplay() {
+      return display;
+   }
+
+   /**
+    * Getter for text of history
+    *
+    * @return String text of history
+    */
+   public String getHistory() {
+      return history;
+   }
+
+   /**
+    * Getter for type of error
+    *
+    * @return {@link ExceptionType} of error, null if keystroke was without error
+    */
+   public ExceptionType getExceptionType() {
+      return exceptionType;
+   }
+
+   /**
+    * Verifies did keystroke cause an error
+    *
+    * @return true if result contains error
+    */
+   public boolean isError() {
+      return exceptionType != null;
+   }
+
+   /**
+    * Overridden method from Object
+    *
+    * @return String representation of current result
+    */
+   @Override
+   public String toString() {
+      return "EngineResult{display='" + display + "', history='" + history + "', exceptionType=" + exceptionType + "}";
+   }
+
+}
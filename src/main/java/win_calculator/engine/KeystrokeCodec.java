@@ -0,0 +1,394 @@
+package win_calculator.engine;
+
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.function.Consumer;
+
+import static win_calculator.engine.TokenParser.createDigitsMap;
+import static win_calculator.engine.TokenParser.createOperationsMap;
+import static win_calculator.engine.TokenParser.isNumberToken;
+import static win_calculator.engine.TokenParser.split;
+
+/**
+ * Abstract class with compact binary format of keystroke scripts
+ * Every digit, decimal separator, operation and memory operation is one byte with its code,
+ * number of up to 18 digits is {@link #NUMBER_CODE} with two varints: layout of number and value of digits,
+ * layout keeps count of digits and position of decimal separator plus one, or zero if number is without separator,
+ * so leading and trailing zeros are kept as they were typed
+ * Number is written with varints only if it is shorter than its digits, so short numbers are one byte per digit
+ * Every script ends with {@link #END_OF_SCRIPT_CODE}
+ * Decoder reads codes from ByteBuffer, which may be mapped file, and feeds {@link CalcEngine}
+ * with shared digits and operations, so it doesn't create String for any token
+ */
+public abstract class KeystrokeCodec {
+
+   /**
+    * Constant: code of number with varints
+    */
+   public static final byte NUMBER_CODE = 0x7E;
+   /**
+    * Constant: code of end of script
+    */
+   public static final byte END_OF_SCRIPT_CODE = 0x7F;
+
+   /**
+    * Constant: tokens by codes
+    */
+   private static final String[] TOKENS = {
+           "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", ",",
+           "+", "-", "*", "/", "%", "sqrt", "sqr", "1/x", "±", "=", "CE", "C", "⟵",
+           "MC", "MS", "MR", "M+", "M-"};
+   /**
+    * Constant: code of decimal separator
+    */
+   private static final int SEPARATOR_CODE = 10;
+   /**
+    * Constant: codes by tokens
+    */
+   private static final HashMap<String, Byte> CODES = createCodesMap();
+   /**
+    * Constant: max count of digits of number with varints
+    */
+   private static final int MAX_NUMBER_DIGITS = 18;
+   /**
+    * Constant: count of positions of decimal separator at the layout of number
+    */
+   private static final int SEPARATOR_POSITIONS = MAX_NUMBER_DIGITS + 2;
+   /**
+    * Constant: bits of value at the byte of varint
+    */
+   private static final int VARINT_VALUE_BITS = 7;
+   /**
+    * Constant: mask of value at the byte of varint
+    */
+   private static final int VARINT_VALUE_MASK = 0x7F;
+   /**
+    * Constant: flag of next byte at the byte of varint
+    */
+   private static final int VARINT_NEXT_FLAG = 0x80;
+   /**
+    * Constant: shift of the byte of varint, which exceeds 63 bits of not negative long
+    */
+   private static final int MAX_VARINT_SHIFT = 63;
+
+   /**
+    * Initializes map with tokens and codes
+    *
+    * @return initialized HashMap
+    */
+   private static HashMap<String, Byte> createCodesMap() {
+      HashMap<String, Byte> map = new HashMap<>();
+      for (int i = 0; i < TOKENS.length; i++) {
+         map.put(TOKENS[i], (byte) i);
+      }
+      map.put(".", (byte) SEPARATOR_CODE);
+
+      return map;
+   }
+
+   /**
+    * Encodes given keystroke script to the bytes
+    *
+    * @param script - given String of tokens separated by whitespaces
+    * @return encoded script with end of script
+    * @throws UnknownTokenException if script contains unknown token
+    */
+   public static byte[] encode(String script) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try {
+         encode(script, out);
+      } catch (IOException e) {
+         throw new IllegalStateException(e);
+      }
+
+      return out.toByteArray();
+   }
+
+   /**
+    * Encodes given keystroke script to the given stream
+    * Script with unknown token isn't written
+    *
+    * @param script - given String of tokens separated by whitespaces
+    * @param out    - given stream of encoded scripts
+    * @throws IOException           from given stream
+    * @throws UnknownTokenException if script contains unknown token
+    */
+   public static void encode(String script, OutputStream out) throws IOException {
+      ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+      for (String token : split(script)) {
+         encodeToken(token, encoded);
+      }
+      encoded.write(END_OF_SCRIPT_CODE);
+      encoded.writeTo(out);
+   }
+
+   /**
+    * Decodes scripts from given buffer and evaluates each one at clean session of given engine
+    * Reads buffer from its position to its limit
+    *
+    * @param buffer   - given buffer of encoded scripts
+    * @param engine   - given engine, which is reset before each script
+    * @param consumer - given consumer of result of each script
+    * @return count of decoded scripts
+    * @throws IllegalArgumentException if buffer contains unknown code or invalid number,
+    *                                  or isn't finished by end of script
+    */
+   public static long decode(ByteBuffer buffer, CalcEngine engine, Consumer<EngineResult> consumer) {
+      NumberSymbol[] digits = createDigitsByCodes();
+      Operation[] operations = createOperationsByCodes();
+      long count = 0;
+      boolean isScriptStarted = false;
+      engine.reset();
+      while (buffer.hasRemaining()) {
+         byte code = buffer.get();
+         isScriptStarted = true;
+
+         if (code == END_OF_SCRIPT_CODE) {
+            consumer.accept(engine.getLastResult());
+            engine.reset();
+            count++;
+            isScriptStarted = false;
+         } else if (code == NUMBER_CODE) {
+            decodeNumber(buffer, engine, digits);
+         } else if (code >= 0 && code < digits.length && digits[code] != null) {
+            engine.pressDigit(digits[code]);
+         } else if (code >= 0 && code < operations.length && operations[code] != null) {
+            engine.pressOperation(operations[code]);
+         } else {
+            throw new IllegalArgumentException("Unknown code " + code + " at position " + (buffer.position() - 1));
+         }
+
+      }
+
+      if (isScriptStarted) {
+         throw new IllegalArgumentException("Script isn't finished at position " + buffer.position());
+      }
+
+      return count;
+   }
+
+   /**
+    * Maps given file of encoded scripts to the memory
+    *
+    * @param path - given path of file
+    * @return read only buffer of file
+    * @throws IOException if file can't be mapped
+    */
+   public static MappedByteBuffer map(Path path) throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+   }
+
+   /**
+    * Encodes given token to the given stream
+    * Number token is encoded with varints if it has up to 18 digits and varints are shorter, else digit by digit
+    *
+    * @param token - given token
+    * @param out   - given stream
+    * @throws UnknownTokenException if token is unknown
+    */
+   private static void encodeToken(String token, ByteArrayOutputStream out) {
+      Byte code = CODES.get(token);
+      if (code != null) {
+         out.write(code);
+      } else if (!isNumberToken(token)) {
+         throw new UnknownTokenException(token);
+      } else if (!encodeNumber(token, out)) {
+
+         for (int i = 0; i < token.length(); i++) {
+            out.write(getCharCode(token.charAt(i)));
+         }
+
+      }
+   }
+
+   /**
+    * Getter for code of given char of number token
+    *
+    * @param symbol - given digit or decimal separator
+    * @return code of char
+    */
+   private static int getCharCode(char symbol) {
+      int code;
+      if (symbol >= '0' && symbol <= '9') {
+         code = symbol - '0';
+      } else {
+         code = SEPARATOR_CODE;
+      }
+
+      return code;
+   }
+
+   /**
+    * Encodes given number token with varints if it has up to 18 digits and varints are shorter than token
+    *
+    * @param token - given number token
+    * @param out   - given stream
+    * @return true if number is written
+    */
+   private static boolean encodeNumber(String token, ByteArrayOutputStream out) {
+      long value = 0;
+      int digitsCount = 0;
+      int separatorPosition = 0;
+      for (int i = 0; i < token.length() && digitsCount <= MAX_NUMBER_DIGITS; i++) {
+         int code = getCharCode(token.charAt(i));
+
+         if (code == SEPARATOR_CODE) {
+            separatorPosition = digitsCount + 1;
+         } else {
+            value = value * 10 + code;
+            digitsCount++;
+         }
+
+      }
+
+      int layout = digitsCount * SEPARATOR_POSITIONS + separatorPosition;
+      boolean isWritten = digitsCount <= MAX_NUMBER_DIGITS
+              && 1 + getVarintSize(layout) + getVarintSize(value) < token.length();
+      if (isWritten) {
+         out.write(NUMBER_CODE);
+         writeVarint(layout, out);
+         writeVarint(value, out);
+      }
+
+      return isWritten;
+   }
+
+   /**
+    * Decodes number with varints from given buffer and sends its digits to the given engine
+    *
+    * @param buffer - given buffer after code of number
+    * @param engine - given engine
+    * @param digits - given digits and decimal separator by codes
+    * @throws IllegalArgumentException if varints are invalid or number has more digits than its layout
+    */
+   private static void decodeNumber(ByteBuffer buffer, CalcEngine engine, NumberSymbol[] digits) {
+      long layout = readVarint(buffer);
+      long value = readVarint(buffer);
+      long digitsCount = layout / SEPARATOR_POSITIONS;
+      long separatorPosition = layout % SEPARATOR_POSITIONS;
+      long divisor = 1;
+      for (int i = 1; i < digitsCount && i < MAX_NUMBER_DIGITS; i++) {
+         divisor *= 10;
+      }
+
+      if (digitsCount > MAX_NUMBER_DIGITS || separatorPosition > digitsCount + 1
+              || (digitsCount == 0 && value != 0) || value / divisor >= 10) {
+         throw new IllegalArgumentException("Invalid number at position " + buffer.position());
+      }
+
+      for (int i = 0; i <= digitsCount; i++) {
+
+         if (i + 1 == separatorPosition) {
+            engine.pressDigit(digits[SEPARATOR_CODE]);
+         }
+
+         if (i < digitsCount) {
+            engine.pressDigit(digits[(int) (value / divisor % 10)]);
+            divisor /= 10;
+         }
+
+      }
+   }
+
+   /**
+    * Writes given not negative value as varint
+    *
+    * @param value - given value
+    * @param out   - given stream
+    */
+   private static void writeVarint(long value, ByteArrayOutputStream out) {
+      long rest = value;
+      while ((rest & ~VARINT_VALUE_MASK) != 0) {
+         out.write((int) (rest & VARINT_VALUE_MASK) | VARINT_NEXT_FLAG);
+         rest >>>= VARINT_VALUE_BITS;
+      }
+      out.write((int) rest);
+   }
+
+   /**
+    * Counts bytes of given not negative value as varint
+    *
+    * @param value - given value
+    * @return count of bytes
+    */
+   private static int getVarintSize(long value) {
+      int size = 1;
+      long rest = value >>> VARINT_VALUE_BITS;
+      while (rest != 0) {
+         size++;
+         rest >>>= VARINT_VALUE_BITS;
+      }
+
+      return size;
+   }
+
+   /**
+    * Reads varint from given buffer
+    *
+    * @param buffer - given buffer
+    * @return read value
+    * @throws IllegalArgumentException if buffer ends inside varint or varint is longer than 63 bits
+    */
+   private static long readVarint(ByteBuffer buffer) {
+      long value = 0;
+      int shift = 0;
+      int current;
+      do {
+         if (!buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Varint isn't finished at position " + buffer.position());
+         }
+         if (shift >= MAX_VARINT_SHIFT) {
+            throw new IllegalArgumentException("Varint is too long at position " + buffer.position());
+         }
+
+         current = buffer.get();
+         value |= (long) (current & VARINT_VALUE_MASK) << shift;
+         shift += VARINT_VALUE_BITS;
+      } while ((current & VARINT_NEXT_FLAG) != 0);
+
+      return value;
+   }
+
+   /**
+    * Creates table of digits and decimal separator by codes
+    *
+    * @return array with digit at index of its code, null for other codes
+    */
+   private static NumberSymbol[] createDigitsByCodes() {
+      HashMap<String, NumberSymbol> map = createDigitsMap();
+      NumberSymbol[] digits = new NumberSymbol[TOKENS.length];
+      for (int i = 0; i < TOKENS.length; i++) {
+         digits[i] = map.get(TOKENS[i]);
+      }
+
+      return digits;
+   }
+
+   /**
+    * Creates table of operations by codes
+    *
+    * @return array with operation at index of its code, null for other codes
+    */
+   private static Operation[] createOperationsByCodes() {
+      HashMap<String, Operation> map = createOperationsMap();
+      Operation[] operations = new Operation[TOKENS.length];
+      for (int i = 0; i < TOKENS.length; i++) {
+         operations[i] = map.get(TOKENS[i]);
+      }
+
+      return operations;
+   }
+
+}
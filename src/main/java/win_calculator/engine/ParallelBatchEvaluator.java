@@ -0,0 +1,227 @@
+package win_calculator.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static win_calculator.engine.BatchEvaluator.openReader;
+import static win_calculator.engine.BatchEvaluator.openWriter;
+import static win_calculator.engine.BatchEvaluator.writeResult;
+
+/**
+ * Parallel batch evaluator of keystroke scripts at the {@link CalcEngine}
+ * Splits scripts to chunks and evaluates chunks at the {@link ForkJoinPool},
+ * each script at own calculator session, so sessions don't share any state
+ * Count of chunks in progress is limited, so memory doesn't depend on count of scripts
+ * Ordered output has the same order of lines as {@link BatchEvaluator}
+ * Unordered output is written by chunks as they are evaluated, each line starts with number of script
+ * Run: java -cp WinCalculator.jar win_calculator.engine.ParallelBatchEvaluator
+ * [input file] [output file] [parallelism] [ordered | unordered]
+ */
+public class ParallelBatchEvaluator {
+
+   /**
+    * Constant: count of scripts at the chunk
+    */
+   private static final int CHUNK_SIZE = 256;
+   /**
+    * Constant: count of chunks in progress for each thread of pool
+    */
+   private static final int CHUNKS_PER_THREAD = 4;
+   /**
+    * Constant: argument of unordered output
+    */
+   private static final String UNORDERED = "unordered";
+   /**
+    * Constant: separator of number of script and result at the unordered output
+    */
+   private static final char NUMBER_SEPARATOR = '\t';
+   /**
+    * Constant: count of nanoseconds at the second
+    */
+   private static final double NANOS_PER_SECOND = 1e9;
+
+   /**
+    * The instance of {@link BatchEvaluator} for scripts of chunks
+    */
+   private final BatchEvaluator evaluator = new BatchEvaluator();
+   /**
+    * Stores pool of evaluation threads
+    */
+   private final ForkJoinPool pool;
+   /**
+    * Stores max count of chunks in progress
+    */
+   private final int maxPendingChunks;
+   /**
+    * Flag: are results written in order of scripts
+    */
+   private final boolean isOrdered;
+
+   /**
+    * Constructs {@link ParallelBatchEvaluator} with own pool of given parallelism
+    *
+    * @param parallelism - given count of evaluation threads
+    * @param isOrdered   - given flag of ordered output
+    */
+   public ParallelBatchEvaluator(int parallelism, boolean isOrdered) {
+      pool = new ForkJoinPool(parallelism);
+      maxPendingChunks = parallelism * CHUNKS_PER_THREAD;
+      this.isOrdered = isOrdered;
+   }
+
+   /**
+    * Evaluates scripts from given file or standard input, writes results to given file or standard output
+    * and reports throughput to the standard error
+    *
+    * @param args - optional input file, output file, "-" for standard stream, parallelism and order of output
+    * @throws IOException if files can't be read or written
+    */
+   public static void main(String[] args) throws IOException {
+      int parallelism = Runtime.getRuntime().availableProcessors();
+      if (args.length > 2) {
+         parallelism = Integer.parseInt(args[2]);
+      }
+      boolean isOrdered = args.length <= 3 || !UNORDERED.equals(args[3]);
+
+      BufferedReader reader = openReader(args, 0);
+      Writer writer = openWriter(args, 1);
+      ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator(parallelism, isOrdered);
+      try {
+         long start = System.nanoTime();
+         long count = evaluator.evaluate(reader, writer);
+         double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+         System.err.printf("scripts: %d, threads: %d, seconds: %.3f, scripts per second: %.0f%n",
+                 count, parallelism, seconds, count / seconds);
+      } finally {
+         evaluator.shutdown();
+         reader.close();
+         writer.close();
+      }
+   }
+
+   /**
+    * Evaluates scripts from given reader and writes result line for each script to given writer
+    *
+    * @param reader - given reader of scripts, one script per line
+    * @param writer - given writer of results
+    * @return count of evaluated scripts
+    * @throws IOException from given reader or writer
+    */
+   public long evaluate(BufferedReader reader, Writer writer) throws IOException {
+      ArrayDeque<ForkJoinTask<String[]>> pendingChunks = new ArrayDeque<>();
+      long count = 0;
+      try {
+         List<String> scripts = readChunk(reader);
+         while (!scripts.isEmpty()) {
+            pendingChunks.add(pool.submit(createChunkTask(scripts, count + 1, writer)));
+            count += scripts.size();
+
+            if (pendingChunks.size() >= maxPendingChunks) {
+               writeChunk(pendingChunks.poll().join(), writer);
+            }
+            scripts = readChunk(reader);
+         }
+
+         while (!pendingChunks.isEmpty()) {
+            writeChunk(pendingChunks.poll().join(), writer);
+         }
+      } catch (UncheckedIOException e) {
+         throw e.getCause();
+      }
+      writer.flush();
+
+      return count;
+   }
+
+   /**
+    * Shuts down pool of evaluation threads
+    */
+   public void shutdown() {
+      pool.shutdown();
+   }
+
+   /**
+    * Reads next chunk of scripts
+    *
+    * @param reader - given reader of scripts
+    * @return List of scripts, empty if reader is finished
+    * @throws IOException from given reader
+    */
+   private List<String> readChunk(BufferedReader reader) throws IOException {
+      List<String> scripts = new ArrayList<>(CHUNK_SIZE);
+      String script = reader.readLine();
+      while (script != null) {
+         scripts.add(script);
+
+         if (scripts.size() == CHUNK_SIZE) {
+            script = null;
+         } else {
+            script = reader.readLine();
+         }
+
+      }
+
+      return scripts;
+   }
+
+   /**
+    * Creates task of evaluation of given chunk
+    * Task of unordered output writes its results itself and returns null
+    *
+    * @param scripts     - given chunk of scripts
+    * @param firstNumber - given number of the first script of chunk
+    * @param writer      - given writer of results
+    * @return task which returns result lines of ordered output
+    */
+   private ForkJoinTask<String[]> createChunkTask(List<String> scripts, long firstNumber, Writer writer) {
+      return ForkJoinTask.adapt(() -> {
+         String[] lines = new String[scripts.size()];
+         for (int i = 0; i < lines.length; i++) {
+            lines[i] = evaluator.evaluateScript(scripts.get(i));
+
+            if (!isOrdered) {
+               lines[i] = (firstNumber + i) + String.valueOf(NUMBER_SEPARATOR) + lines[i];
+            }
+
+         }
+
+         if (!isOrdered) {
+            writeChunk(lines, writer);
+            lines = null;
+         }
+
+         return lines;
+      });
+   }
+
+   /**
+    * Writes given result lines of chunk
+    * Writing is synchronized by writer, because chunks of unordered output are written by pool threads
+    *
+    * @param lines  - given result lines, may be null if chunk was written by its task
+    * @param writer - given writer of results
+    */
+   private void writeChunk(String[] lines, Writer writer) {
+      if (lines != null) {
+
+         synchronized (writer) {
+            try {
+               for (String line : lines) {
+                  writeResult(line, writer);
+               }
+            } catch (IOException e) {
+               throw new UncheckedIOException(e);
+            }
+         }
+
+      }
+   }
+
+}
@@ -0,0 +1,80 @@
+package win_calculator.engine;
+
+import win_calculator.model.ExtraOperationCache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Bounded pool of {@link CalcEngine} sessions
+ * Released session is reset in place and kept for next acquiring, so short sessions
+ * don't allocate controller, model, history and memory each time
+ * Pool doesn't block: new session is created if pool is empty,
+ * released session is dropped if pool is full
+ * Pool is thread safe, session is used by one thread between acquiring and releasing
+ */
+public class SessionPool {
+
+   /**
+    * Stores idle sessions
+    */
+   private final ArrayBlockingQueue<CalcEngine> sessions;
+   /**
+    * The instance of {@link ExtraOperationCache} shared by sessions, may be null
+    */
+   private final ExtraOperationCache cache;
+
+   /**
+    * Constructs {@link SessionPool} with given max count of idle sessions
+    *
+    * @param capacity - given max count of idle sessions
+    */
+   public SessionPool(int capacity) {
+      this(capacity, null);
+   }
+
+   /**
+    * Constructs {@link SessionPool} with given max count of idle sessions,
+    * whose sessions share given {@link ExtraOperationCache}
+    *
+    * @param capacity - given max count of idle sessions
+    * @param cache    - given cache of extra operation results, may be null
+    */
+   public SessionPool(int capacity, ExtraOperationCache cache) {
+      sessions = new ArrayBlockingQueue<>(capacity);
+      this.cache = cache;
+   }
+
+   /**
+    * Takes idle session from the pool or creates new one
+    *
+    * @return session with state of new session
+    */
+   public CalcEngine acquire() {
+      CalcEngine session = sessions.poll();
+      if (session == null) {
+         session = new CalcEngine(cache);
+      }
+
+      return session;
+   }
+
+   /**
+    * Resets given session and returns it to the pool if pool isn't full
+    *
+    * @param session - given session, which isn't used after releasing
+    */
+   public void release(CalcEngine session) {
+      session.reset();
+      sessions.offer(session);
+   }
+
+   /**
+    * Getter for count of idle sessions
+    *
+    * @return count of sessions at the pool
+    */
+   public int getIdleCount() {
+      return sessions.size();
+   }
+
+}
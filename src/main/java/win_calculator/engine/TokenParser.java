@@ -0,0 +1,137 @@
+package win_calculator.engine;
+
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.Operations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static win_calculator.controller.entities.Symbol.*;
+
+/**
+ * Abstract class with keystroke tokens of the {@link CalcEngine}
+ * Token is a digit, a decimal separator or a name of operation, the same as at the calculator buttons:
+ * "+", "-", "*", "/", "%", "sqrt", "sqr", "1/x", "±", "=", "CE", "C", "⟵", "MC", "MS", "MR", "M+", "M-"
+ * Expression is a String of tokens separated by whitespaces, numbers at the expression
+ * may be written as one token, like "12,5"
+ */
+public abstract class TokenParser {
+
+   /**
+    * Constant: regex of number token, which is split to the keystrokes of digits
+    */
+   private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+([,.]\\d*)?|[,.]\\d*");
+   /**
+    * Constant: regex of whitespaces between tokens
+    */
+   private static final Pattern SEPARATOR_PATTERN = Pattern.compile("\\s+");
+
+   /**
+    * Splits given expression to the keystroke tokens
+    *
+    * @param expression - given String of tokens separated by whitespaces
+    * @return List of tokens, where numbers are split to the digits
+    */
+   public static List<String> parse(String expression) {
+      List<String> tokens = new ArrayList<>();
+      for (String token : split(expression)) {
+
+         if (isNumberToken(token)) {
+
+            for (int i = 0; i < token.length(); i++) {
+               tokens.add(String.valueOf(token.charAt(i)));
+            }
+
+         } else {
+            tokens.add(token);
+         }
+
+      }
+
+      return tokens;
+   }
+
+   /**
+    * Splits given expression by whitespaces without splitting of numbers
+    *
+    * @param expression - given String of tokens separated by whitespaces
+    * @return array of not empty tokens
+    */
+   static String[] split(String expression) {
+      String trimmed = expression.trim();
+      String[] tokens;
+      if (trimmed.isEmpty()) {
+         tokens = new String[0];
+      } else {
+         tokens = SEPARATOR_PATTERN.split(trimmed);
+      }
+
+      return tokens;
+   }
+
+   /**
+    * Verifies is given token number, which is typed digit by digit
+    *
+    * @param token - given token
+    * @return true if token contains digits and one decimal separator at most
+    */
+   static boolean isNumberToken(String token) {
+      return NUMBER_PATTERN.matcher(token).matches();
+   }
+
+   /**
+    * Initializes map with tokens and shared instances of operations
+    *
+    * @return initialized HashMap
+    */
+   static HashMap<String, Operation> createOperationsMap() {
+      HashMap<String, Operation> map = new HashMap<>();
+      map.put("+", Operations.ADD);
+      map.put("-", Operations.SUBTRACT);
+      map.put("*", Operations.MULTIPLY);
+      map.put("/", Operations.DIVIDE);
+      map.put("%", Operations.PERCENT);
+      map.put("sqrt", Operations.SQRT);
+      map.put("sqr", Operations.SQR);
+      map.put("1/x", Operations.FRACTION);
+      map.put("CE", Operations.CLEAR_ENTERED);
+      map.put("C", Operations.CLEAR);
+      map.put("⟵", Operations.BACKSPACE);
+      map.put("=", Operations.EQUAL);
+      map.put("±", Operations.NEGATE);
+      map.put("MC", Operations.MEMORY_CLEAR);
+      map.put("MS", Operations.MEMORY_STORE);
+      map.put("MR", Operations.MEMORY_RECALL);
+      map.put("M+", Operations.MEMORY_ADD);
+      map.put("M-", Operations.MEMORY_SUBTRACT);
+
+      return map;
+   }
+
+   /**
+    * Initializes map with tokens and digits
+    *
+    * @return initialized HashMap
+    */
+   static HashMap<String, NumberSymbol> createDigitsMap() {
+      HashMap<String, NumberSymbol> map = new HashMap<>();
+      map.put("0", new NumberSymbol(ZERO));
+      map.put("1", new NumberSymbol(ONE));
+      map.put("2", new NumberSymbol(TWO));
+      map.put("3", new NumberSymbol(THREE));
+      map.put("4", new NumberSymbol(FOUR));
+      map.put("5", new NumberSymbol(FIVE));
+      map.put("6", new NumberSymbol(SIX));
+      map.put("7", new NumberSymbol(SEVEN));
+      map.put("8", new NumberSymbol(EIGHT));
+      map.put("9", new NumberSymbol(NINE));
+      map.put(",", new NumberSymbol(SEPARATOR));
+      map.put(".", new NumberSymbol(SEPARATOR));
+
+      return map;
+   }
+
+}
@@ -0,0 +1,37 @@
+package win_calculator.engine;
+
+/**
+ * Exception of the {@link CalcEngine} for token, which isn't digit, decimal separator or name of operation
+ */
+public class UnknownTokenException extends IllegalArgumentException {
+
+   /**
+    * Constant: version of serialized form
+    */
+   private static final long serialVersionUID = 1L;
+
+   /**
+    * Stores unknown token
+    */
+   private final String token;
+
+   /**
+    * Constructs {@link UnknownTokenException} with given unknown token
+    *
+    * @param token - given unknown token
+    */
+   UnknownTokenException(String token) {
+      super("Unknown token: " + token);
+      this.token = token;
+   }
+
+   /**
+    * Getter for unknown token
+    *
+    * @return String unknown token
+    */
+   public String getToken() {
+      return token;
+   }
+
+}
@@ -1,14 +1,14 @@
 package win_calculator.model;
 
 import win_calculator.model.exceptions.*;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.NumberBackend;
 import win_calculator.model.operations.memory_operations.MemoryOperation;
 import win_calculator.model.operations.Operation;
-import win_calculator.model.operations.OperationType;
 
 import java.math.BigDecimal;
-import java.util.LinkedList;
+import java.util.List;
 
-import static win_calculator.model.operations.OperationType.*;
 import static win_calculator.model.utils.ModelUtils.*;
 
 /**
@@ -24,16 +24,73 @@ public class CalcModel {
    /**
     * The instance of {@link OperationProcessor}
     */
-   private OperationProcessor operationProcessor = new OperationProcessor();
+   private final OperationProcessor operationProcessor;
+   /**
+    * The {@link NumberBackend} of inputted numbers
+    */
+   private final NumberBackend backend;
 
    /**
-    * Stores BigDecimal result number for return
+    * Stores result number for return
     */
-   private BigDecimal responseNumber;
+   private CalcNumber responseNumber;
    /**
-    * Stores BigDecimal value of inputted number
+    * Stores value of inputted number
     */
-   private BigDecimal inputtedNumber;
+   private CalcNumber inputtedNumber;
+
+   /**
+    * Constructs {@link CalcModel} with {@link NumberBackend#DECIMAL} backend
+    */
+   public CalcModel() {
+      this(NumberBackend.DECIMAL);
+   }
+
+   /**
+    * Constructs {@link CalcModel} with given {@link NumberBackend}
+    * Operations keep kind of numbers of selected backend,
+    * results of square root are BigDecimal for any backend
+    *
+    * @param backend - given number backend
+    */
+   public CalcModel(NumberBackend backend) {
+      this(backend, ResultNormalizer.DEFAULT_MAX_SIGNIFICANT_DIGITS);
+   }
+
+   /**
+    * Constructs {@link CalcModel} with given {@link NumberBackend}
+    * and given max count of significant digits of operation results
+    * Results are rounded to the given count of digits after every operation
+    *
+    * @param backend              - given number backend
+    * @param maxSignificantDigits - given max count of significant digits of results
+    */
+   public CalcModel(NumberBackend backend, int maxSignificantDigits) {
+      this(backend, maxSignificantDigits, null);
+   }
+
+   /**
+    * Constructs {@link CalcModel} with {@link NumberBackend#DECIMAL} backend
+    * and given {@link ExtraOperationCache}, which may be shared by several models
+    *
+    * @param cache - given cache of extra operation results, may be null
+    */
+   public CalcModel(ExtraOperationCache cache) {
+      this(NumberBackend.DECIMAL, ResultNormalizer.DEFAULT_MAX_SIGNIFICANT_DIGITS, cache);
+   }
+
+   /**
+    * Constructs {@link CalcModel} with given {@link NumberBackend},
+    * given max count of significant digits of operation results and given {@link ExtraOperationCache}
+    *
+    * @param backend              - given number backend
+    * @param maxSignificantDigits - given max count of significant digits of results
+    * @param cache                - given cache of extra operation results, may be null
+    */
+   public CalcModel(NumberBackend backend, int maxSignificantDigits, ExtraOperationCache cache) {
+      this.backend = backend;
+      operationProcessor = new OperationProcessor(new ResultNormalizer(maxSignificantDigits), cache);
+   }
 
    /**
     * Receives BigDecimal number and store it
@@ -41,15 +98,20 @@ public class CalcModel {
     * @param number - given BigDecimal number
     */
    public void calculate(BigDecimal number) {
-      inputtedNumber = number;
+      if (number == null) {
+         inputtedNumber = null;
+      } else {
+         inputtedNumber = backend.valueOf(number);
+      }
    }
 
    /**
     * Receives current operation
     * Decides which method has to be called for calculations by
-    * current operation's type
+    * current operation's type with switch, so dispatch doesn't depend on order of types
     * Verifies result on overflow
     * Rounds result if it's necessary
+    * Expands digits of result if it isn't exact decimal
     *
     * @param operation - current operation
     * @return BigDecimal value of calculation's result
@@ -57,44 +119,68 @@ public class CalcModel {
     *                            {@link OperationProcessor} throws {@link OperationException}
     */
    public BigDecimal calculate(Operation operation) throws OperationException {
-      OperationType type = operation.getType();
-      if (isBinaryOperation(type)){
-         responseNumber = operationProcessor.processBinaryOperation(operation, inputtedNumber, responseNumber);
-      } else if (EQUAL == type) {
-         responseNumber = operationProcessor.processEnter(inputtedNumber, responseNumber);
-      } else if (isExtraOperation(type)) {
-         responseNumber = operationProcessor.processExtraOperation(operation, inputtedNumber, responseNumber);
-      } else if (NEGATE == type) {
-         responseNumber = operationProcessor.processNegate(operation, inputtedNumber, responseNumber);
-      } else if (PERCENT == type) {
-         responseNumber = operationProcessor.processPercent(operation, inputtedNumber);
-      } else if (CLEAR == type) {
-         responseNumber = operationProcessor.processClear();
-      } else if (CLEAR_ENTERED == type) {
-         operationProcessor.processClearEntered();
-         responseNumber = null;
-      } else if (MEMORY == type) {
-         BigDecimal result = operationProcessor.processMemory((MemoryOperation) operation, inputtedNumber);
-
-         if (result != null) {
-            responseNumber = result;
-         }
+      switch (operation.getType()) {
+         case ADD:
+         case SUBTRACT:
+         case MULTIPLY:
+         case DIVIDE:
+            responseNumber = operationProcessor.processBinaryOperation(operation, inputtedNumber, responseNumber);
+            break;
+         case EQUAL:
+            responseNumber = operationProcessor.processEnter(inputtedNumber, responseNumber);
+            break;
+         case SQR:
+         case SQRT:
+         case FRACTION:
+            responseNumber = operationProcessor.processExtraOperation(operation, inputtedNumber, responseNumber);
+            break;
+         case NEGATE:
+            responseNumber = operationProcessor.processNegate(operation, inputtedNumber, responseNumber);
+            break;
+         case PERCENT:
+            responseNumber = operationProcessor.processPercent(operation, inputtedNumber);
+            break;
+         case CLEAR:
+            responseNumber = operationProcessor.processClear();
+            break;
+         case CLEAR_ENTERED:
+            operationProcessor.processClearEntered();
+            responseNumber = null;
+            break;
+         case MEMORY:
+            CalcNumber result = operationProcessor.processMemory((MemoryOperation) operation, inputtedNumber);
 
+            if (result != null) {
+               responseNumber = result;
+            }
+            break;
+         default:
+            break;
       }
       checkOnOverflow(responseNumber);
 
-      return responseNumber;
+      return getResponseNumber();
    }
 
    /**
     * Getter for history list
     *
-    * @return LinkedList<Operation> of current history
+    * @return List<Operation> of current history
     */
-   public LinkedList<Operation> getHistory() {
+   public List<Operation> getHistory() {
       return operationProcessor.getHistory();
    }
 
+   /**
+    * Restores state of new model in place
+    * Clears numbers, history and memory without reallocation of {@link OperationProcessor}
+    */
+   public void reset() {
+      inputtedNumber = null;
+      responseNumber = null;
+      operationProcessor.reset();
+   }
+
    /**
     * Sends request to the {@link OperationProcessor} to clean
     * last number and extra operations on it at history
@@ -108,6 +194,11 @@ public class CalcModel {
     * @return BigDecimal response number
     */
    public BigDecimal getResponseNumber() {
-      return responseNumber;
+      BigDecimal result = null;
+      if (responseNumber != null) {
+         result = responseNumber.toBigDecimal();
+      }
+
+      return result;
    }
 }
@@ -0,0 +1,295 @@
+package win_calculator.model;
+
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.operations.extra_operations.ExtraOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of results of {@link ExtraOperation} by operation and operand
+ * Repeated square root, square or fraction of recent number returns stored result without calculation
+ * Cache is split to stripes with own lock, so sessions at different threads rarely wait for each other
+ * Result is stored before normalization, so cache may be shared by models with different precision
+ * Operation is a part of key by identity, so {@link win_calculator.model.operations.extra_operations.Sqrt}
+ * with different engine never gets result of another one, shared instances of
+ * {@link win_calculator.model.operations.Operations} make it the same as key by operation type
+ * Failed calculations aren't stored
+ */
+public class ExtraOperationCache {
+
+   /**
+    * Constant: max count of stripes
+    */
+   private static final int MAX_STRIPES = 16;
+   /**
+    * Constant: load factor of stripe maps
+    */
+   private static final float LOAD_FACTOR = 0.75f;
+
+   /**
+    * Stores stripes of cache
+    */
+   private final Stripe[] stripes;
+   /**
+    * Stores max count of results
+    */
+   private final int capacity;
+   /**
+    * Stores count of found results
+    */
+   private final LongAdder hitCount = new LongAdder();
+   /**
+    * Stores count of calculated results
+    */
+   private final LongAdder missCount = new LongAdder();
+   /**
+    * Stores count of results removed by capacity
+    */
+   private final LongAdder evictionCount = new LongAdder();
+
+   /**
+    * Constructs {@link ExtraOperationCache} with given max count of results
+    * Capacity is divided between stripes, so each stripe removes its own least recently used results
+    * Remainder of division is given to the first stripes by one result, so stripes keep given count of results
+    *
+    * @param capacity - given positive max count of results
+    */
+   public ExtraOperationCache(int capacity) {
+      if (capacity <= 0) {
+         throw new IllegalArgumentException("Capacity of cache has to be positive: " + capacity);
+      }
+      this.capacity = capacity;
+
+      int stripesCount = 1;
+      while (stripesCount < MAX_STRIPES && stripesCount * 2 <= capacity) {
+         stripesCount *= 2;
+      }
+      stripes = new Stripe[stripesCount];
+      int remainder = capacity % stripesCount;
+      for (int i = 0; i < stripesCount; i++) {
+
+         if (i < remainder) {
+            stripes[i] = new Stripe(capacity / stripesCount + 1);
+         } else {
+            stripes[i] = new Stripe(capacity / stripesCount);
+         }
+
+      }
+   }
+
+   /**
+    * Returns stored result of given operation on given number or calculates and stores it
+    *
+    * @param operation - given extra operation
+    * @param number    - given operand
+    * @return result of operation
+    * @throws OperationException from given operation, result isn't stored
+    */
+   public CalcNumber calculate(ExtraOperation operation, CalcNumber number) throws OperationException {
+      Key key = new Key(operation, number);
+      Stripe stripe = getStripe(key);
+      CalcNumber result;
+      synchronized (stripe) {
+         result = stripe.get(key);
+      }
+
+      if (result == null) {
+         missCount.increment();
+         result = operation.calculate(number);
+
+         synchronized (stripe) {
+            stripe.put(key, result);
+         }
+
+      } else {
+         hitCount.increment();
+      }
+
+      return result;
+   }
+
+   /**
+    * Removes all stored results, counters are kept
+    */
+   public void clear() {
+      for (Stripe stripe : stripes) {
+
+         synchronized (stripe) {
+            stripe.clear();
+         }
+
+      }
+   }
+
+   /**
+    * Getter for count of stored results
+    *
+    * @return count of results at all stripes
+    */
+   public int getSize() {
+      int size = 0;
+      for (Stripe stripe : stripes) {
+
+         synchronized (stripe) {
+            size += stripe.size();
+         }
+
+      }
+
+      return size;
+   }
+
+   /**
+    * Getter for capacity
+    *
+    * @return max count of results
+    */
+   public int getCapacity() {
+      return capacity;
+   }
+
+   /**
+    * Getter for count of found results
+    *
+    * @return count of hits
+    */
+   public long getHitCount() {
+      return hitCount.sum();
+   }
+
+   /**
+    * Getter for count of calculated results
+    *
+    * @return count of misses
+    */
+   public long getMissCount() {
+      return missCount.sum();
+   }
+
+   /**
+    * Getter for count of results removed by capacity
+    *
+    * @return count of evictions
+    */
+   public long getEvictionCount() {
+      return evictionCount.sum();
+   }
+
+   /**
+    * Selects stripe of given key by spread bits of its hash code
+    *
+    * @param key - given key
+    * @return stripe of key
+    */
+   private Stripe getStripe(Key key) {
+      int hash = key.hashCode();
+      hash ^= hash >>> 16;
+
+      return stripes[hash & (stripes.length - 1)];
+   }
+
+   /**
+    * Stripe of cache: LinkedHashMap in access order, which removes least recently used result over its capacity
+    */
+   private class Stripe extends LinkedHashMap<Key, CalcNumber> {
+
+      /**
+       * Constant: version of serialized form
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Stores max count of results at the stripe
+       */
+      private final int stripeCapacity;
+
+      /**
+       * Constructs {@link Stripe} with given capacity
+       *
+       * @param stripeCapacity - given max count of results at the stripe
+       */
+      private Stripe(int stripeCapacity) {
+         super(16, LOAD_FACTOR, true);
+         this.stripeCapacity = stripeCapacity;
+      }
+
+      /**
+       * Overridden method from {@link LinkedHashMap}
+       * Counts removed result
+       *
+       * @param eldest - given least recently used entry
+       * @return true if stripe is over its capacity
+       */
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CalcNumber> eldest) {
+         boolean isRemoved = size() > stripeCapacity;
+         if (isRemoved) {
+            evictionCount.increment();
+         }
+
+         return isRemoved;
+      }
+   }
+
+   /**
+    * Entity class of cache key: operation by identity and operand by value
+    */
+   private static class Key {
+
+      /**
+       * Stores operation
+       */
+      private final ExtraOperation operation;
+      /**
+       * Stores operand
+       */
+      private final CalcNumber number;
+      /**
+       * Stores hash code of key
+       */
+      private final int hash;
+
+      /**
+       * Constructs {@link Key} with given operation and operand
+       *
+       * @param operation - given operation
+       * @param number    - given operand
+       */
+      private Key(ExtraOperation operation, CalcNumber number) {
+         this.operation = operation;
+         this.number = number;
+         hash = 31 * System.identityHashCode(operation) + number.hashCode();
+      }
+
+      /**
+       * Overridden method from {@link Object}
+       *
+       * @param object - given object
+       * @return true if given key has the same operation and equal operand
+       */
+      @Override
+      public boolean equals(Object object) {
+         boolean isEqual = this == object;
+         if (!isEqual && object instanceof Key) {
+            Key key = (Key) object;
+            isEqual = operation == key.operation && number.equals(key.number);
+         }
+
+         return isEqual;
+      }
+
+      /**
+       * Overridden method from {@link Object}
+       *
+       * @return hash code of operation and operand
+       */
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+   }
+
+}
@@ -4,28 +4,56 @@ import win_calculator.model.operations.Operation;
 import win_calculator.model.operations.Number;
 import win_calculator.model.operations.OperationType;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static win_calculator.model.operations.OperationType.*;
 import static win_calculator.model.utils.ModelUtils.isBinaryOperation;
+import static win_calculator.model.utils.ModelUtils.isExtraOperation;
 
 /**
  * History container class
- * Store calculator operations at the list
+ * Store calculator operations at the array list
+ * Keeps positions of binary operations and counts of operation types at the segment
+ * after last binary operation, so verifying and changing of the history tail
+ * doesn't depend on history length
  * Provides methods for creating, modifying and cleaning of operations list
  */
 public class History {
 
+   /**
+    * Constant: index of first operation which is taken into account at the segment after binary operation
+    */
+   private static final int FIRST_SEGMENT_INDEX = 1;
+
    /**
     * Stores calculator operations
     */
-   private LinkedList<Operation> operations;
+   private final ArrayList<Operation> operations = new ArrayList<>();
+   /**
+    * Stores read only view of operations
+    */
+   private final List<Operation> operationsView = Collections.unmodifiableList(operations);
+   /**
+    * Stores indexes of binary operations in ascending order
+    */
+   private final ArrayList<Integer> binaryIndexes = new ArrayList<>();
+   /**
+    * Stores counts of operation types at the segment before each binary operation,
+    * for restoring them when binary operation is removed
+    */
+   private final ArrayList<int[]> previousSegmentCounts = new ArrayList<>();
+   /**
+    * Stores counts of operation types at the segment after last binary operation by ordinal of type
+    */
+   private int[] segmentCounts = new int[OperationType.values().length];
 
    /**
-    * Constructs {@link History} with new LinkedList
+    * Constructs empty {@link History}
     */
    History() {
-      operations = new LinkedList<>();
    }
 
    /**
@@ -34,25 +62,85 @@ public class History {
     * @param operation - given operation
     */
    void addOperation(Operation operation) {
+      int index = operations.size();
       operations.add(operation);
+      OperationType type = operation.getType();
+
+      if (isBinaryOperation(type)) {
+         binaryIndexes.add(index);
+         previousSegmentCounts.add(segmentCounts);
+         segmentCounts = new int[segmentCounts.length];
+      } else if (index >= FIRST_SEGMENT_INDEX) {
+         segmentCounts[type.ordinal()]++;
+      }
    }
 
    /**
-    * Setter for operations
+    * Removes last operation from the operation's list
     *
-    * @param operations - given LinkedList<Operation> for set
+    * @return removed operation
+    */
+   Operation removeLastOperation() {
+      int index = operations.size() - 1;
+      Operation operation = operations.remove(index);
+      OperationType type = operation.getType();
+
+      if (isBinaryOperation(type)) {
+         binaryIndexes.remove(binaryIndexes.size() - 1);
+         segmentCounts = previousSegmentCounts.remove(previousSegmentCounts.size() - 1);
+      } else if (index >= FIRST_SEGMENT_INDEX) {
+         segmentCounts[type.ordinal()]--;
+      }
+
+      return operation;
+   }
+
+   /**
+    * Removes last number and extra operations, negate and percent on it from the end of operations
+    * Works in place, so cost depends on count of removed operations only
+    * First operation is removed just as the last one
+    */
+   void removeLastNumberWithExtraOperations() {
+      for (int i = operations.size() - 1; i > 0; i--) {
+         OperationType type = operations.get(operations.size() - 1).getType();
+
+         if (isExtraOperation(type) || NEGATE == type || PERCENT == type) {
+            removeLastOperation();
+         } else {
+            break;
+         }
+
+      }
+      removeLastOperation();
+   }
+
+   /**
+    * Removes all operations
+    * Keeps allocated buffers, so history is reused without reallocation
     */
-   public void setOperations(LinkedList<Operation> operations) {
-      this.operations = operations;
+   void clear() {
+      operations.clear();
+      binaryIndexes.clear();
+      previousSegmentCounts.clear();
+      Arrays.fill(segmentCounts, 0);
    }
 
    /**
     * Getter for operations
     *
-    * @return LinkedList<Operation> of current history
+    * @return read only List<Operation> of current history
+    */
+   public List<Operation> getOperations() {
+      return operationsView;
+   }
+
+   /**
+    * Verifies is operation's list empty
+    *
+    * @return true if history doesn't contain operations
     */
-   public LinkedList<Operation> getOperations() {
-      return operations;
+   boolean isEmpty() {
+      return operations.isEmpty();
    }
 
    /**
@@ -63,16 +151,14 @@ public class History {
     */
    void addOrChangeBinaryOperation(Operation operation) {
       if (!operations.isEmpty() && isChangingMOperationPossible()) {
-         for (int i = operations.size() - 1; i > 0; i--) {
-
-            if (isBinaryOperation(operations.get(i).getType())) {
-               operations.set(i, operation);
-               break;
-            }
+         int lastBinaryIndex = getLastBinaryIndex();
 
+         if (lastBinaryIndex >= FIRST_SEGMENT_INDEX) {
+            operations.set(lastBinaryIndex, operation);
          }
+
       } else {
-         operations.add(operation);
+         addOperation(operation);
       }
    }
 
@@ -82,15 +168,21 @@ public class History {
     * @return true if changing main operation at operations possible
     */
    private boolean isChangingMOperationPossible() {
-      boolean isPossible = false;
-      for (Operation operation : operations) {
-         if (isBinaryOperation(operation.getType())) {
-            isPossible = true;
-            break;
-         }
+      return !binaryIndexes.isEmpty();
+   }
+
+   /**
+    * Getter for index of last binary operation
+    *
+    * @return index of last binary operation or -1 if history doesn't contain binary operations
+    */
+   private int getLastBinaryIndex() {
+      int index = -1;
+      if (!binaryIndexes.isEmpty()) {
+         index = binaryIndexes.get(binaryIndexes.size() - 1);
       }
 
-      return isPossible;
+      return index;
    }
 
    /**
@@ -100,34 +192,26 @@ public class History {
     * @param number - given number
     */
    void changeNumberAtFirstPosition(Number number) {
-      if (NUMBER == operations.getFirst().getType()) {
+      if (NUMBER == operations.get(0).getType()) {
          operations.set(0, number);
       }
    }
 
    /**
     * Verifies is operations contains given operation type
+    * after last binary operation or is last binary operation of given type
+    * First operation isn't taken into account
     *
     * @param expectedType - given operation type
     * @return true if contains
     */
    boolean isContainingGivenOperationType(OperationType expectedType) {
-      OperationType type;
-      boolean isContaining = false;
-      if (!operations.isEmpty()) {
-         for (int i = operations.size() - 1; i > 0; i--) {
-            type = operations.get(i).getType();
-
-            if (expectedType == type) {
-               isContaining = true;
-               break;
-            }
-
-            if (isBinaryOperation(type)) {
-               break;
-            }
-
-         }
+      boolean isContaining;
+      int lastBinaryIndex = getLastBinaryIndex();
+      if (isBinaryOperation(expectedType)) {
+         isContaining = lastBinaryIndex >= FIRST_SEGMENT_INDEX && expectedType == operations.get(lastBinaryIndex).getType();
+      } else {
+         isContaining = segmentCounts[expectedType.ordinal()] > 0;
       }
 
       return isContaining;
@@ -148,40 +232,3 @@ public class History {
    }
 
 }
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
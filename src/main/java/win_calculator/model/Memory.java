@@ -1,75 +1,74 @@
 package win_calculator.model;
 
-import java.math.BigDecimal;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+
 /**
  * Memory container class
- * Stores BigDecimal number
+ * Stores number
  * Provides operation methods for memory operations:
  * store, add, subtract and recall
  */
 class Memory {
    /**
-    * Saved BigDecimal number at memory
+    * Saved number at memory
+    */
+   private CalcNumber storedNumber = DecimalNumber.ZERO;
+   /**
+    * The instance of {@link ResultNormalizer} for sums at memory
     */
-   private BigDecimal storedNumber = BigDecimal.ZERO;
+   private final ResultNormalizer normalizer;
+
+   /**
+    * Constructs {@link Memory} with given {@link ResultNormalizer}
+    *
+    * @param normalizer - given normalizer of sums at memory
+    */
+   Memory(ResultNormalizer normalizer) {
+      this.normalizer = normalizer;
+   }
 
    /**
     * Getter for the stored number
     *
-    * @return BigDecimal stored number
+    * @return stored number
     */
-   BigDecimal getStoredNumber() {
+   CalcNumber getStoredNumber() {
       return storedNumber;
    }
 
    /**
-    * Adds given BigDecimal number to the stored number at the memory
+    * Adds given number to the stored number at the memory
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   void addToStoredNumber(BigDecimal number) {
-      storedNumber = storedNumber.add(number);
+   void addToStoredNumber(CalcNumber number) {
+      storedNumber = normalizer.normalize(storedNumber.add(number));
    }
 
    /**
-    * Subtract given BigDecimal number from the stored number at the memory
+    * Subtract given number from the stored number at the memory
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   void subtractFromStoredNumber(BigDecimal number) {
-      storedNumber = storedNumber.subtract(number);
+   void subtractFromStoredNumber(CalcNumber number) {
+      storedNumber = normalizer.normalize(storedNumber.subtract(number));
    }
 
    /**
-    * Stores given BigDecimal number to the memory
+    * Stores given number to the memory
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   void storeNumber(BigDecimal number) {
+   void storeNumber(CalcNumber number) {
       storedNumber = number;
    }
 
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+   /**
+    * Resets stored number to zero
+    */
+   void clear() {
+      storedNumber = DecimalNumber.ZERO;
+   }
 
+}
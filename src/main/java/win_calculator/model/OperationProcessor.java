@@ -1,6 +1,8 @@
 package win_calculator.model;
 
 import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
 import win_calculator.model.operations.memory_operations.MemoryOperation;
 import win_calculator.model.operations.memory_operations.MemoryOperationType;
 import win_calculator.model.operations.Operation;
@@ -11,8 +13,7 @@ import win_calculator.model.operations.OperationType;
 import win_calculator.model.operations.percent.Percent;
 import win_calculator.model.operations.binary_operations.BinaryOperation;
 
-import java.math.BigDecimal;
-import java.util.LinkedList;
+import java.util.List;
 
 import static win_calculator.model.operations.memory_operations.MemoryOperationType.*;
 import static win_calculator.model.operations.memory_operations.MemoryOperationType.SUBTRACT_FROM_MEMORY;
@@ -25,18 +26,26 @@ import static win_calculator.model.utils.ModelUtils.isExtraOperation;
  * Initializes the {@link History} instance
  * Initializes the {@link Memory} instance
  * Provides methods for calculator operations
- * Return BigDecimal lastBinaryResult of calculations
+ * Return lastBinaryResult of calculations
  */
 class OperationProcessor {
 
    /**
     * The instance of {@link History}
     */
-   private History history = new History();
+   private final History history = new History();
+   /**
+    * The instance of {@link ResultNormalizer}
+    */
+   private final ResultNormalizer normalizer;
    /**
     * The instance of {@link Memory}
     */
-   private Memory memory = new Memory();
+   private final Memory memory;
+   /**
+    * The instance of {@link ExtraOperationCache}, null if results of extra operations aren't cached
+    */
+   private final ExtraOperationCache cache;
 
    /**
     * Stores {@link OperationType} of last operation
@@ -50,27 +59,39 @@ class OperationProcessor {
    /**
     * Stores last used number at calculations
     */
-   private BigDecimal lastNumber;
+   private CalcNumber lastNumber;
    /**
     * Stores previous used number at calculations
     */
-   private BigDecimal previousNumber;
+   private CalcNumber previousNumber;
    /**
     * Stores result number of last binary operation
     */
-   private BigDecimal lastBinaryResult;
+   private CalcNumber lastBinaryResult;
    /**
     * Stores result number of last extra operation
     */
-   private BigDecimal lastExtraResult;
+   private CalcNumber lastExtraResult;
+   /**
+    * Stores type of the last calculated {@link ExtraOperation}
+    */
+   private OperationType lastExtraType;
+   /**
+    * Stores operand of the last calculated {@link ExtraOperation}
+    */
+   private CalcNumber lastExtraOperand;
+   /**
+    * Stores result of the last calculated {@link ExtraOperation} before it's used as operand
+    */
+   private CalcNumber lastCalculatedExtraResult;
    /**
     * Stores result number of last operation
     */
-   private BigDecimal operationResult;
+   private CalcNumber operationResult;
    /**
     * Stores last inputted number
     */
-   private BigDecimal lastInputtedNumber;
+   private CalcNumber lastInputtedNumber;
 
    /**
     * Stores was it equal repeated last time for binary operations
@@ -85,29 +106,35 @@ class OperationProcessor {
     */
    private boolean mOperationBefore = false;
 
+   /**
+    * Constructs {@link OperationProcessor} with given {@link ResultNormalizer}
+    * which is applied to result of every operation
+    *
+    * @param normalizer - given normalizer of results
+    */
+   OperationProcessor(ResultNormalizer normalizer) {
+      this(normalizer, null);
+   }
+
+   /**
+    * Constructs {@link OperationProcessor} with given {@link ResultNormalizer}
+    * and given {@link ExtraOperationCache} of extra operation results
+    *
+    * @param normalizer - given normalizer of results
+    * @param cache      - given cache of extra operation results, may be null
+    */
+   OperationProcessor(ResultNormalizer normalizer, ExtraOperationCache cache) {
+      this.normalizer = normalizer;
+      this.cache = cache;
+      memory = new Memory(normalizer);
+   }
+
    /**
     * Rejects last added number and extra operations on it from the history
     */
    void rejectLastNumberWithExtraOperations() {
       if (historyNotEmpty() && isHistoryContainingExtraPercentNegate()) {
-         LinkedList<Operation> operations = new LinkedList<>(history.getOperations());
-         OperationType type;
-
-         for (int i = operations.size() - 1; i > 0; i--) {
-            type = operations.getLast().getType();
-
-            if (isExtraOperation(type) || NEGATE == type || PERCENT == type) {
-               operations.removeLast();
-            }
-
-            if (NUMBER == type) {
-               break;
-            }
-
-         }
-
-         operations.removeLast();
-         history.setOperations(operations);
+         history.removeLastNumberWithExtraOperations();
          lastNumber = null;
          setLastExtraResult(null);
       }
@@ -122,17 +149,17 @@ class OperationProcessor {
     * @param negate         - given {@link Negate} operation
     * @param inputtedNumber - given last inputted number
     * @param responseNumber - given last response number
-    * @return BigDecimal result of calculations
+    * @return result of calculations
     */
-   BigDecimal processNegate(Operation negate, BigDecimal inputtedNumber, BigDecimal responseNumber) {
-      BigDecimal result;
+   CalcNumber processNegate(Operation negate, CalcNumber inputtedNumber, CalcNumber responseNumber) {
+      CalcNumber result;
       if (inputtedNumber == null && lastOperationNotNumberAndNotNegate()) {
          result = checkResponseAndProceed(responseNumber);
          resetLastBinaryResult();
       } else {
          result = lastNumber;
       }
-      result = ((Negate) negate).calculate(result);
+      result = normalizer.normalize(((Negate) negate).calculate(result));
       addOperationToHistory(negate);
       lastNumber = result;
 
@@ -142,11 +169,11 @@ class OperationProcessor {
    /**
     * Checks given response number and decides what number has to be proceed
     *
-    * @param responseNumber - given BigDecimal response number
-    * @return BigDecimal number for operation
+    * @param responseNumber - given response number
+    * @return number for operation
     */
-   private BigDecimal checkResponseAndProceed(BigDecimal responseNumber) {
-      BigDecimal result;
+   private CalcNumber checkResponseAndProceed(CalcNumber responseNumber) {
+      CalcNumber result;
       if (responseNumber != null) {
          result = responseNumber;
 
@@ -156,7 +183,7 @@ class OperationProcessor {
          }
 
       } else {
-         result = BigDecimal.ZERO;
+         result = DecimalNumber.ZERO;
          addNumberToHistory(result);
          setLastNumber(result);
       }
@@ -176,9 +203,9 @@ class OperationProcessor {
    /**
     * Getter for operations from the history
     *
-    * @return LinkedList<Operation> of operations from the history
+    * @return List<Operation> of operations from the history
     */
-   LinkedList<Operation> getHistory() {
+   List<Operation> getHistory() {
       return history.getOperations();
    }
 
@@ -187,17 +214,79 @@ class OperationProcessor {
     * and previous result
     * Sends selected number, current operation and result of calculation to the history
     * Calls method calculate() at {@link ExtraOperation} with selected number
+    * or takes its result from the {@link ExtraOperationCache}
+    * Returns operand of the previous extra operation without calculation if current operation is its inverse
     *
     * @param operation      - given {@link ExtraOperation} operation
     * @param inputtedNumber - given last inputted number
     * @param responseNumber - given last response number
-    * @return BigDecimal result of calculations
+    * @return result of calculations
     */
-   BigDecimal processExtraOperation(Operation operation, BigDecimal inputtedNumber, BigDecimal responseNumber) throws OperationException {
-      BigDecimal result = prepareNumberForExtraOperation(inputtedNumber, responseNumber);
+   CalcNumber processExtraOperation(Operation operation, CalcNumber inputtedNumber, CalcNumber responseNumber) throws OperationException {
+      OperationType previousType = lastOperationType;
+      CalcNumber operand = prepareNumberForExtraOperation(inputtedNumber, responseNumber);
       addOperationToHistory(operation);
-      result = ((ExtraOperation) operation).calculate(result);
+      CalcNumber result = findInverseShortcut(operation.getType(), operand, previousType);
+      if (result == null) {
+         result = normalizer.normalize(calculateExtraOperation((ExtraOperation) operation, operand));
+      }
       setLastExtraResult(result);
+      lastExtraType = operation.getType();
+      lastExtraOperand = operand;
+      lastCalculatedExtraResult = result;
+
+      return result;
+   }
+
+   /**
+    * Finds result of given extra operation as the operand of previous extra operation, if they are inverse pair
+    * on the same operand: square of square root, square root of square and fraction of fraction
+    * Square root of square is absolute value of operand, other pairs return operand itself,
+    * so exact operand is kept without calculation and rounding
+    *
+    * @param type         - given type of current extra operation
+    * @param operand      - given operand of current extra operation
+    * @param previousType - given type of operation before current
+    * @return result of shortcut or null if operations aren't inverse pair on the same operand
+    */
+   private CalcNumber findInverseShortcut(OperationType type, CalcNumber operand, OperationType previousType) {
+      CalcNumber result = null;
+      boolean isSameOperand = isExtraOperation(previousType) && previousType == lastExtraType
+              && operand == lastCalculatedExtraResult && lastExtraOperand != null;
+
+      if (isSameOperand) {
+
+         if (SQR == type && SQRT == previousType || FRACTION == type && FRACTION == previousType) {
+            result = lastExtraOperand;
+         } else if (SQRT == type && SQR == previousType) {
+            result = lastExtraOperand;
+
+            if (result.signum() < 0) {
+               result = result.negate();
+            }
+
+         }
+
+      }
+
+      return result;
+   }
+
+   /**
+    * Calculates given extra operation on given number by the {@link ExtraOperationCache} if it's set
+    *
+    * @param operation - given extra operation
+    * @param number    - given operand
+    * @return result of operation
+    * @throws OperationException from given operation
+    */
+   private CalcNumber calculateExtraOperation(ExtraOperation operation, CalcNumber number) throws OperationException {
+      CalcNumber result;
+      if (cache == null) {
+         result = operation.calculate(number);
+      } else {
+         result = cache.calculate(operation, number);
+      }
 
       return result;
    }
@@ -207,12 +296,12 @@ class OperationProcessor {
     * and last operation
     * Stores it to the history
     *
-    * @param inputtedNumber - given BigDecimal inputted number
-    * @param responseNumber - given BigDecimal last response number
+    * @param inputtedNumber - given inputted number
+    * @param responseNumber - given last response number
     * @return selected number
     */
-   private BigDecimal prepareNumberForExtraOperation(BigDecimal inputtedNumber, BigDecimal responseNumber) {
-      BigDecimal resultNum;
+   private CalcNumber prepareNumberForExtraOperation(CalcNumber inputtedNumber, CalcNumber responseNumber) {
+      CalcNumber resultNum;
       if (inputtedNumber != null) {
          lastInputtedNumber = inputtedNumber;
          addNumberToHistory(inputtedNumber);
@@ -228,7 +317,7 @@ class OperationProcessor {
          }
 
       } else {
-         resultNum = BigDecimal.ZERO;
+         resultNum = DecimalNumber.ZERO;
          addZeroToHistory();
       }
 
@@ -255,10 +344,10 @@ class OperationProcessor {
     * @param operation      - given {@link BinaryOperation} operation
     * @param inputtedNumber - given last inputted number
     * @param responseNumber - given last response number
-    * @return BigDecimal result of calculations
+    * @return result of calculations
     */
-   BigDecimal processBinaryOperation(Operation operation, BigDecimal inputtedNumber, BigDecimal responseNumber) throws OperationException {
-      BigDecimal result = selectNumberForBinaryOperation(inputtedNumber, responseNumber);
+   CalcNumber processBinaryOperation(Operation operation, CalcNumber inputtedNumber, CalcNumber responseNumber) throws OperationException {
+      CalcNumber result = selectNumberForBinaryOperation(inputtedNumber, responseNumber);
       doBinaryOperation(operation);
       if (operationResult != null) {
          result = operationResult;
@@ -273,12 +362,12 @@ class OperationProcessor {
     * Verifies given inputted and response numbers and select one for the operation
     * Sets global fields by given parameters
     *
-    * @param inputtedNumber - given inputted BigDecimal number
-    * @param responseNumber - given last response BigDecimal number
-    * @return selected BigDecimal number
+    * @param inputtedNumber - given inputted number
+    * @param responseNumber - given last response number
+    * @return selected number
     */
-   private BigDecimal selectNumberForBinaryOperation(BigDecimal inputtedNumber, BigDecimal responseNumber) {
-      BigDecimal result;
+   private CalcNumber selectNumberForBinaryOperation(CalcNumber inputtedNumber, CalcNumber responseNumber) {
+      CalcNumber result;
       if (inputtedNumber != null) {
          addNumberToHistory(inputtedNumber);
          setLastNumber(inputtedNumber);
@@ -301,7 +390,7 @@ class OperationProcessor {
          }
 
       } else {
-         result = BigDecimal.ZERO;
+         result = DecimalNumber.ZERO;
          addZeroToHistory();
       }
 
@@ -315,19 +404,41 @@ class OperationProcessor {
     *
     * @return null
     */
-   BigDecimal processClear() {
+   CalcNumber processClear() {
+      resetVariables();
+      resetHistory();
+
+      return null;
+   }
+
+   /**
+    * Restores state of new processor in place
+    * Clears history and memory without reallocation, so processor is reused for new session
+    */
+   void reset() {
+      resetVariables();
+      history.clear();
+      memory.clear();
+      lastOperationType = OperationType.CLEAR;
+      lastBinaryOperation = null;
+   }
+
+   /**
+    * Resets numbers and flags of calculations
+    */
+   private void resetVariables() {
       lastNumber = null;
       resetPreviousNumber();
       resetOperationResult();
       enterForOperationRepeated = false;
       mOperationBefore = false;
-      resetHistory();
       resetLastBinaryResult();
       enterRepeated = false;
       lastExtraResult = null;
       lastInputtedNumber = null;
-
-      return null;
+      lastExtraType = null;
+      lastExtraOperand = null;
+      lastCalculatedExtraResult = null;
    }
 
    /**
@@ -339,9 +450,9 @@ class OperationProcessor {
     *
     * @param inputtedNumber - given last inputted number
     * @param responseNumber - given last response number
-    * @return BigDecimal result of calculations
+    * @return result of calculations
     */
-   BigDecimal processEnter(BigDecimal inputtedNumber, BigDecimal responseNumber) throws OperationException {
+   CalcNumber processEnter(CalcNumber inputtedNumber, CalcNumber responseNumber) throws OperationException {
       setVariablesBeforeEqual(inputtedNumber);
       initVariables();
 
@@ -358,7 +469,7 @@ class OperationProcessor {
       resetLastExtraResult();
       lastOperationType = OperationType.CLEAR;
       resetHistory();
-      BigDecimal result;
+      CalcNumber result;
 
       if (operationResult != null) {
          result = operationResult;
@@ -375,9 +486,9 @@ class OperationProcessor {
     * Verifies given inputted number and global fields
     * Sets global variables
     *
-    * @param inputtedNumber - given inputted BigDecimal number
+    * @param inputtedNumber - given inputted number
     */
-   private void setVariablesBeforeEqual(BigDecimal inputtedNumber) {
+   private void setVariablesBeforeEqual(CalcNumber inputtedNumber) {
       if (inputtedNumber != null) {
          resetLastBinaryResult();
          setLastNumber(inputtedNumber);
@@ -417,18 +528,18 @@ class OperationProcessor {
     *
     * @param operation      - given {@link MemoryOperation}
     * @param inputtedNumber - given last inputted number
-    * @return BigDecimal result of memory operation
+    * @return result of memory operation
     */
-   BigDecimal processMemory(MemoryOperation operation, BigDecimal inputtedNumber) {
+   CalcNumber processMemory(MemoryOperation operation, CalcNumber inputtedNumber) {
       MemoryOperationType memoryOperationType = operation.getMemoryOperationType();
-      BigDecimal responseNumber;
+      CalcNumber responseNumber;
 
       if (CLEAR_MEMORY == memoryOperationType) {
-         memory = new Memory();
+         memory.clear();
          responseNumber = inputtedNumber;
       } else {
          responseNumber = selectNumberForMemoryOperation(inputtedNumber);
-         BigDecimal result = doMemoryOperation(operation, responseNumber);
+         CalcNumber result = doMemoryOperation(operation, responseNumber);
 
          if (result != null) {
             responseNumber = result;
@@ -446,11 +557,11 @@ class OperationProcessor {
     * last used number
     * Selects number for memory operation by verification result
     *
-    * @param inputtedNumber - given BigDecimal inputted number
-    * @return selected BigDecimal number
+    * @param inputtedNumber - given inputted number
+    * @return selected number
     */
-   private BigDecimal selectNumberForMemoryOperation(BigDecimal inputtedNumber) {
-      BigDecimal selectedNumber;
+   private CalcNumber selectNumberForMemoryOperation(CalcNumber inputtedNumber) {
+      CalcNumber selectedNumber;
       if (inputtedNumber != null) {
          lastInputtedNumber = inputtedNumber;
          selectedNumber = inputtedNumber;
@@ -461,7 +572,7 @@ class OperationProcessor {
       } else if (lastNumber != null) {
          selectedNumber = lastNumber;
       } else {
-         selectedNumber = BigDecimal.ZERO;
+         selectedNumber = DecimalNumber.ZERO;
       }
 
       return selectedNumber;
@@ -475,13 +586,13 @@ class OperationProcessor {
     *
     * @param percent - given operation for calculation
     * @param inputtedNumber  - given inputted number
-    * @return BigDecimal result of calculation
+    * @return result of calculation
     */
-   BigDecimal processPercent(Operation percent, BigDecimal inputtedNumber) {
+   CalcNumber processPercent(Operation percent, CalcNumber inputtedNumber) {
       if (inputtedNumber != null) {
          lastInputtedNumber = inputtedNumber;
       }
-      BigDecimal response = doPercent((Percent) percent, inputtedNumber);
+      CalcNumber response = doPercent((Percent) percent, inputtedNumber);
       verifyAndStorePercentResult(inputtedNumber, response);
       addOperationToHistory(percent);
 
@@ -492,11 +603,11 @@ class OperationProcessor {
     * Verifies given inputted number and percent operation result
     * Sets global variables by verification result
     *
-    * @param inputtedNumber - inputted BigDecimal number
-    * @param response       - percent operation result BigDecimal number
+    * @param inputtedNumber - inputted number
+    * @param response       - percent operation result number
     */
-   private void verifyAndStorePercentResult(BigDecimal inputtedNumber, BigDecimal response) {
-      if (BigDecimal.ZERO.compareTo(response) != 0) {
+   private void verifyAndStorePercentResult(CalcNumber inputtedNumber, CalcNumber response) {
+      if (response.signum() != 0) {
 
          if (previousNumber == null) {
             previousNumber = lastNumber;
@@ -509,7 +620,7 @@ class OperationProcessor {
          lastNumber = response;
          enterRepeated = false;
       } else if (isBinaryOperation(lastOperationType) || isExtraOperation(lastOperationType)) {
-         addNumberToHistory(BigDecimal.ZERO);
+         addNumberToHistory(DecimalNumber.ZERO);
          setLastNumber(inputtedNumber);
          resetLastBinaryResult();
       } else {
@@ -550,18 +661,18 @@ class OperationProcessor {
    }
 
    /**
-    * Resets history
+    * Resets history in place, so it's reused without reallocation
     */
    private void resetHistory() {
-      history = new History();
+      history.clear();
    }
 
    /**
     * Last extra result setter
     *
-    * @param lastExtraResult - BigDecimal value for last extra result
+    * @param lastExtraResult - value for last extra result
     */
-   private void setLastExtraResult(BigDecimal lastExtraResult) {
+   private void setLastExtraResult(CalcNumber lastExtraResult) {
       this.lastExtraResult = lastExtraResult;
    }
 
@@ -590,20 +701,20 @@ class OperationProcessor {
     * @return true if operation's list at history is not empty
     */
    private boolean historyNotEmpty() {
-      return !history.getOperations().isEmpty();
+      return !history.isEmpty();
    }
 
    /**
     * Adds zero number to the operations at history
     */
    private void addZeroToHistory() {
-      Number number = new Number(BigDecimal.ZERO);
+      Number number = new Number(DecimalNumber.ZERO);
       if (!historyNotEmpty()) {
          history.addOperation(number);
       } else {
          history.changeNumberAtFirstPosition(number);
       }
-      lastNumber = BigDecimal.ZERO;
+      lastNumber = DecimalNumber.ZERO;
       mOperationBefore = false;
    }
 
@@ -628,11 +739,11 @@ class OperationProcessor {
     * Selects two numbers for {@link Percent} operation by the given number and global fields
     *
     * @param number - given inputted number
-    * @return BigDecimal[] of selected numbers
+    * @return array of selected numbers
     */
-   private BigDecimal[] selectNumbersForPercent(BigDecimal number) {
-      BigDecimal firstNumber;
-      BigDecimal secondNumber;
+   private CalcNumber[] selectNumbersForPercent(CalcNumber number) {
+      CalcNumber firstNumber;
+      CalcNumber secondNumber;
       if (number != null) {
          secondNumber = number;
 
@@ -673,12 +784,12 @@ class OperationProcessor {
          }
 
       } else {
-         firstNumber = BigDecimal.ZERO;
-         secondNumber = BigDecimal.ZERO;
+         firstNumber = DecimalNumber.ZERO;
+         secondNumber = DecimalNumber.ZERO;
 
       }
 
-      return new BigDecimal[]{firstNumber, secondNumber};
+      return new CalcNumber[]{firstNumber, secondNumber};
    }
 
    /**
@@ -697,16 +808,16 @@ class OperationProcessor {
     *
     * @param percent - given operation
     * @param number  - given inputted number
-    * @return BigDecimal result of calculation
+    * @return result of calculation
     */
-   private BigDecimal doPercent(Percent percent, BigDecimal number) {
-      BigDecimal[] numbers = selectNumbersForPercent(number);
-      BigDecimal result;
+   private CalcNumber doPercent(Percent percent, CalcNumber number) {
+      CalcNumber[] numbers = selectNumbersForPercent(number);
+      CalcNumber result;
 
       if (numbers[0] != null) {
-         result = percent.calculate(numbers[0], numbers[1]);
+         result = normalizer.normalize(percent.calculate(numbers[0], numbers[1]));
       } else {
-         result = BigDecimal.ZERO;
+         result = DecimalNumber.ZERO;
       }
 
       return result;
@@ -748,18 +859,18 @@ class OperationProcessor {
     * @throws OperationException from calculate() method at {@link BinaryOperation}
     */
    private void doCalculation() throws OperationException {
-      BigDecimal firstArg = selectFirstArgumentForBinaryOperation();
-      lastBinaryResult = lastBinaryOperation.calculate(firstArg, lastNumber);
+      CalcNumber firstArg = selectFirstArgumentForBinaryOperation();
+      lastBinaryResult = normalizer.normalize(lastBinaryOperation.calculate(firstArg, lastNumber));
       operationResult = lastBinaryResult;
    }
 
    /**
     * Verifies global variables and select first argument for the binary operation
     *
-    * @return selected BigDecimal number
+    * @return selected number
     */
-   private BigDecimal selectFirstArgumentForBinaryOperation() {
-      BigDecimal firstArg;
+   private CalcNumber selectFirstArgumentForBinaryOperation() {
+      CalcNumber firstArg;
       if (previousNumber == null) {
 
          if (operationResult == null) {
@@ -820,32 +931,39 @@ class OperationProcessor {
     * Selects method from {@link Memory} by {@link MemoryOperationType} of given {@link MemoryOperation}
     *
     * @param operation - given {@link MemoryOperation}
-    * @param number    - given BigDecimal number for memory operation
-    * @return BigDecimal result of memory operation
+    * @param number    - given number for memory operation
+    * @return result of memory operation
     */
-   private BigDecimal doMemoryOperation(MemoryOperation operation, BigDecimal number) {
+   private CalcNumber doMemoryOperation(MemoryOperation operation, CalcNumber number) {
       MemoryOperationType type = operation.getMemoryOperationType();
-      BigDecimal storedNumber = null;
-      if (ADD_TO_MEMORY == type) {
-         memory.addToStoredNumber(number);
-      } else if (STORE == type) {
-         memory.storeNumber(number);
-      } else if (RECALL == type) {
-         storedNumber = memory.getStoredNumber();
-      } else if (SUBTRACT_FROM_MEMORY == type) {
-         memory.subtractFromStoredNumber(number);
+      CalcNumber storedNumber = null;
+      switch (type) {
+         case ADD_TO_MEMORY:
+            memory.addToStoredNumber(number);
+            break;
+         case STORE:
+            memory.storeNumber(number);
+            break;
+         case RECALL:
+            storedNumber = memory.getStoredNumber();
+            break;
+         case SUBTRACT_FROM_MEMORY:
+            memory.subtractFromStoredNumber(number);
+            break;
+         default:
+            break;
       }
 
       return storedNumber;
    }
 
    /**
-    * Converts BigDecimal number to the {@link Number} and
+    * Converts number to the {@link Number} and
     * calls addOperationToHistory() with it
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   private void addNumberToHistory(BigDecimal number) {
+   private void addNumberToHistory(CalcNumber number) {
       addOperationToHistory(new Number(number));
    }
 
@@ -871,22 +989,22 @@ class OperationProcessor {
 
    /**
     * Saves current lastNumber to the previousNumber
-    * and sets given BigDecimal number to the lastNumber
+    * and sets given number to the lastNumber
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   private void setLastNumber(BigDecimal number) {
+   private void setLastNumber(CalcNumber number) {
       previousNumber = lastNumber;
       lastNumber = number;
    }
 
    /**
-    * Converts given BigDecimal number to the {@link Number} instance
+    * Converts given number to the {@link Number} instance
     * Add {@link Number} to the history
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     */
-   private void addNumberToEvents(BigDecimal number) {
+   private void addNumberToEvents(CalcNumber number) {
       lastNumber = number;
       Number convertedNumber = new Number(number);
       if (enterRepeated && NEGATE != lastOperationType) {
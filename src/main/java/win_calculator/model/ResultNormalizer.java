@@ -0,0 +1,54 @@
+package win_calculator.model;
+
+import win_calculator.model.numbers.CalcNumber;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Normalization stage for results of operations at the {@link OperationProcessor}
+ * Rounds results to the max count of significant digits, so repeated operations
+ * like square don't double count of stored digits on each step
+ */
+class ResultNormalizer {
+
+   /**
+    * Constant: default max count of significant digits of results
+    * Covers all digits of max possible value (10000 integer and 15 fraction digits)
+    * with reserve, so results are identical to not rounded at display precision
+    */
+   static final int DEFAULT_MAX_SIGNIFICANT_DIGITS = 10050;
+
+   /**
+    * Stores rounding context of results
+    */
+   private final MathContext context;
+
+   /**
+    * Constructs {@link ResultNormalizer} with given max count of significant digits
+    *
+    * @param maxSignificantDigits - given max count of significant digits of results
+    */
+   ResultNormalizer(int maxSignificantDigits) {
+      if (maxSignificantDigits <= 0) {
+         throw new IllegalArgumentException("Count of significant digits has to be positive: " + maxSignificantDigits);
+      }
+      context = new MathContext(maxSignificantDigits, RoundingMode.HALF_UP);
+   }
+
+   /**
+    * Rounds given number if it has more significant digits than max count
+    *
+    * @param number - given number, may be null
+    * @return normalized number
+    */
+   CalcNumber normalize(CalcNumber number) {
+      CalcNumber result = number;
+      if (number != null) {
+         result = number.round(context);
+      }
+
+      return result;
+   }
+
+}
@@ -0,0 +1,126 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Abstract class of number values at the {@link win_calculator.model.CalcModel}
+ * Provides arithmetic methods for calculator operations
+ * and converting to BigDecimal with precision requested by consumer
+ */
+public abstract class CalcNumber {
+
+   /**
+    * Converts current number to BigDecimal with all digits are needed for calculations
+    *
+    * @return BigDecimal value of current number
+    */
+   public abstract BigDecimal toBigDecimal();
+
+   /**
+    * Converts current number to BigDecimal rounded to the given context
+    *
+    * @param context - given context of rounding
+    * @return BigDecimal value of current number
+    */
+   public abstract BigDecimal toBigDecimal(MathContext context);
+
+   /**
+    * Getter for the sign of current number
+    *
+    * @return -1, 0 or 1 as current number is negative, zero or positive
+    */
+   public abstract int signum();
+
+   /**
+    * Compares absolute value of current number with given positive BigDecimal bound
+    *
+    * @param bound - given positive BigDecimal bound
+    * @return -1, 0 or 1 as absolute value is less than, equal to or greater than bound
+    */
+   public abstract int compareMagnitude(BigDecimal bound);
+
+   /**
+    * Estimates lower bound of decimal exponent of absolute value of current not zero number
+    * Estimation uses length of digits only, without full comparison of values
+    *
+    * @return exponent, which isn't bigger than exponent of the most significant digit
+    */
+   public abstract long minExponent();
+
+   /**
+    * Estimates upper bound of decimal exponent of absolute value of current not zero number
+    * Estimation uses length of digits only, without full comparison of values
+    *
+    * @return exponent, which isn't less than exponent of the most significant digit
+    */
+   public abstract long maxExponent();
+
+   /**
+    * Compares decimal exponent of absolute value of current number with given exponent
+    * Decides by estimated bounds of exponent, without full comparison of values
+    *
+    * @param exponent - given decimal exponent
+    * @return negative if absolute value is less than 10^exponent, positive if it isn't less
+    * than 10^(exponent + 1), zero if it may be between them
+    */
+   public int compareExponent(int exponent) {
+      int result = 0;
+      if (signum() == 0 || maxExponent() < exponent) {
+         result = -1;
+      } else if (minExponent() > exponent) {
+         result = 1;
+      }
+
+      return result;
+   }
+
+   /**
+    * Rounds current number to the given context if it stores more digits than precision of context
+    *
+    * @param context - given context of rounding
+    * @return rounded number or current number if it fits to the context
+    */
+   public abstract CalcNumber round(MathContext context);
+
+   /**
+    * Calculates negated value of current number
+    *
+    * @return negated number
+    */
+   public abstract CalcNumber negate();
+
+   /**
+    * Calculates sum of current number and given number
+    *
+    * @param number - given number
+    * @return sum of numbers
+    */
+   public abstract CalcNumber add(CalcNumber number);
+
+   /**
+    * Calculates difference of current number and given number
+    *
+    * @param number - given number
+    * @return difference of numbers
+    */
+   public abstract CalcNumber subtract(CalcNumber number);
+
+   /**
+    * Calculates product of current number and given number
+    *
+    * @param number - given number
+    * @return product of numbers
+    */
+   public abstract CalcNumber multiply(CalcNumber number);
+
+   /**
+    * Calculates quotient of current number and given number
+    *
+    * @param number - given divisor
+    * @return quotient of numbers
+    * @throws ArithmeticException if given divisor is zero
+    */
+   public abstract CalcNumber divide(CalcNumber number);
+
+}
@@ -0,0 +1,539 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Number with exact BigDecimal value
+ * Number which unscaled value fits to long may be kept in compact form, as long unscaled value and scale,
+ * then sum, difference and product of compact numbers are calculated with overflow-checked long arithmetic
+ * and BigDecimal is created only if result doesn't fit to long or BigDecimal value is requested
+ * Results of compact and BigDecimal arithmetic are equal, including scale
+ */
+public class DecimalNumber extends CalcNumber {
+
+   /**
+    * Constant: zero number
+    */
+   public static final DecimalNumber ZERO = new DecimalNumber(0, 0);
+   /**
+    * Constant: one number
+    */
+   public static final DecimalNumber ONE = new DecimalNumber(1, 0);
+
+   /**
+    * Constant: binary logarithm of ten for estimation of digits count by bit length
+    */
+   private static final double TEN_BITS = Math.log(10) / Math.log(2);
+   /**
+    * Constant: marker of number without compact form
+    */
+   private static final long INFLATED = Long.MIN_VALUE;
+   /**
+    * Constant: max count of digits of BigDecimal which is converted to compact form
+    */
+   private static final int MAX_COMPACT_DIGITS = 18;
+   /**
+    * Constant: powers of ten which fit to long
+    */
+   private static final long[] LONG_TEN_POWERS = createLongTenPowers();
+   /**
+    * Constant: multiplier of hash code of unscaled value
+    */
+   private static final int HASH_MULTIPLIER = 31;
+
+   /**
+    * Stores unscaled value of compact form or {@link #INFLATED} if number hasn't compact form
+    */
+   private final long compactValue;
+   /**
+    * Stores scale of compact form
+    */
+   private final int scale;
+   /**
+    * Stores BigDecimal value of current number, null if compact number wasn't converted yet
+    */
+   private BigDecimal value;
+
+   /**
+    * Constructs {@link DecimalNumber} with given BigDecimal value
+    *
+    * @param value - given BigDecimal value
+    */
+   public DecimalNumber(BigDecimal value) {
+      this.value = value;
+      compactValue = INFLATED;
+      scale = value.scale();
+   }
+
+   /**
+    * Constructs compact {@link DecimalNumber} with given unscaled value and scale
+    *
+    * @param compactValue - given unscaled value, not {@link #INFLATED}
+    * @param scale        - given scale
+    */
+   private DecimalNumber(long compactValue, int scale) {
+      this.compactValue = compactValue;
+      this.scale = scale;
+   }
+
+   /**
+    * Converts given BigDecimal to the {@link DecimalNumber}
+    * Number of up to 18 digits is kept in compact form
+    *
+    * @param value - given BigDecimal value
+    * @return number with given value
+    */
+   public static DecimalNumber valueOf(BigDecimal value) {
+      DecimalNumber number;
+      if (value.precision() <= MAX_COMPACT_DIGITS) {
+         number = new DecimalNumber(value.unscaledValue().longValue(), value.scale());
+         number.value = value;
+      } else {
+         number = new DecimalNumber(value);
+      }
+
+      return number;
+   }
+
+   /**
+    * Initializes table of powers of ten which fit to long
+    *
+    * @return array with power of ten at index of its exponent
+    */
+   private static long[] createLongTenPowers() {
+      long[] powers = new long[MAX_COMPACT_DIGITS + 1];
+      powers[0] = 1;
+      for (int i = 1; i < powers.length; i++) {
+         powers[i] = powers[i - 1] * 10;
+      }
+
+      return powers;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Converts compact number at the first call
+    *
+    * @return exact BigDecimal value of current number
+    */
+   @Override
+   public BigDecimal toBigDecimal() {
+      if (value == null) {
+         value = BigDecimal.valueOf(compactValue, scale);
+      }
+
+      return value;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param context - given context of rounding
+    * @return BigDecimal value rounded to the given context
+    */
+   @Override
+   public BigDecimal toBigDecimal(MathContext context) {
+      return toBigDecimal().round(context);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return sign of current number
+    */
+   @Override
+   public int signum() {
+      int signum;
+      if (isCompact()) {
+         signum = Long.signum(compactValue);
+      } else {
+         signum = value.signum();
+      }
+
+      return signum;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param bound - given positive BigDecimal bound
+    * @return result of comparing absolute value with given bound
+    */
+   @Override
+   public int compareMagnitude(BigDecimal bound) {
+      return toBigDecimal().abs().compareTo(bound);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Estimates count of digits by bit length of unscaled value, exponent of compact number is exact
+    *
+    * @return lower bound of decimal exponent of current number
+    */
+   @Override
+   public long minExponent() {
+      long exponent;
+      if (isCompact()) {
+         exponent = getCompactExponent();
+      } else {
+         exponent = (long) ((value.unscaledValue().bitLength() - 1) / TEN_BITS) - value.scale() - 1;
+      }
+
+      return exponent;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Estimates count of digits by bit length of unscaled value, exponent of compact number is exact
+    *
+    * @return upper bound of decimal exponent of current number
+    */
+   @Override
+   public long maxExponent() {
+      long exponent;
+      if (isCompact()) {
+         exponent = getCompactExponent();
+      } else {
+         exponent = (long) (value.unscaledValue().bitLength() / TEN_BITS) - value.scale() + 1;
+      }
+
+      return exponent;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Counts exact precision only if estimation is at the given exponent
+    *
+    * @param exponent - given decimal exponent
+    * @return result of comparing decimal exponent of current number with given exponent
+    */
+   @Override
+   public int compareExponent(int exponent) {
+      int result = super.compareExponent(exponent);
+      if (result == 0 && !isCompact()) {
+         result = Long.signum((long) value.precision() - value.scale() - 1 - exponent);
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param context - given context of rounding
+    * @return rounded number or current number if its precision fits to the context
+    */
+   @Override
+   public CalcNumber round(MathContext context) {
+      CalcNumber result = this;
+      if (getPrecision() > context.getPrecision()) {
+         result = valueOf(toBigDecimal().round(context));
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return negated number
+    */
+   @Override
+   public CalcNumber negate() {
+      DecimalNumber result;
+      if (isCompact()) {
+         result = new DecimalNumber(-compactValue, scale);
+      } else {
+         result = valueOf(value.negate());
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Expands given number if it is not exact decimal
+    * Keeps sum exact if given number is {@link RationalNumber}
+    * Adds compact numbers with long arithmetic
+    *
+    * @param number - given number
+    * @return sum of numbers
+    */
+   @Override
+   public CalcNumber add(CalcNumber number) {
+      CalcNumber sum = null;
+      if (number instanceof RationalNumber) {
+         sum = number.add(this);
+      } else if (number instanceof DecimalNumber) {
+         sum = addCompact((DecimalNumber) number, false);
+      }
+
+      if (sum == null) {
+         sum = valueOf(toBigDecimal().add(number.toBigDecimal()));
+      }
+
+      return sum;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Expands given number if it is not exact decimal
+    * Keeps difference exact if given number is {@link RationalNumber}
+    * Subtracts compact numbers with long arithmetic
+    *
+    * @param number - given number
+    * @return difference of numbers
+    */
+   @Override
+   public CalcNumber subtract(CalcNumber number) {
+      CalcNumber difference = null;
+      if (number instanceof RationalNumber) {
+         difference = RationalNumber.valueOf(toBigDecimal()).subtract(number);
+      } else if (number instanceof DecimalNumber) {
+         difference = addCompact((DecimalNumber) number, true);
+      }
+
+      if (difference == null) {
+         difference = valueOf(toBigDecimal().subtract(number.toBigDecimal()));
+      }
+
+      return difference;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Keeps product as {@link Quotient} if given number is {@link Quotient}
+    * Multiplies compact numbers with long arithmetic
+    *
+    * @param number - given number
+    * @return product of numbers
+    */
+   @Override
+   public CalcNumber multiply(CalcNumber number) {
+      CalcNumber product;
+      if (number instanceof DecimalNumber) {
+         product = multiplyCompact((DecimalNumber) number);
+
+         if (product == null) {
+            product = valueOf(toBigDecimal().multiply(number.toBigDecimal()));
+         }
+
+      } else {
+         product = number.multiply(this);
+      }
+
+      return product;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Returns {@link Quotient} if result hasn't terminating decimal expansion
+    * Keeps {@link RationalNumber} quotient if given number is {@link RationalNumber}
+    *
+    * @param number - given divisor
+    * @return quotient of numbers
+    */
+   @Override
+   public CalcNumber divide(CalcNumber number) {
+      CalcNumber quotient;
+      if (number instanceof DecimalNumber) {
+         quotient = Quotient.of(toBigDecimal(), number.toBigDecimal());
+      } else if (number instanceof RationalNumber) {
+         quotient = RationalNumber.valueOf(toBigDecimal()).divide(number);
+      } else {
+         quotient = Quotient.valueOf(toBigDecimal()).divide(number);
+      }
+
+      return quotient;
+   }
+
+   /**
+    * Overridden method from {@link Object}
+    * Numbers are equal if their BigDecimal values are equal, including scale
+    *
+    * @param object - given object
+    * @return true if given object is equal number
+    */
+   @Override
+   public boolean equals(Object object) {
+      boolean isEqual = this == object;
+      if (!isEqual && object instanceof DecimalNumber) {
+         DecimalNumber number = (DecimalNumber) object;
+
+         if (isCompact() && number.isCompact()) {
+            isEqual = compactValue == number.compactValue && scale == number.scale;
+         } else {
+            isEqual = toBigDecimal().equals(number.toBigDecimal());
+         }
+
+      }
+
+      return isEqual;
+   }
+
+   /**
+    * Overridden method from {@link Object}
+    * Hash code of unscaled value, which fits to long, is calculated without BigDecimal,
+    * so compact number isn't converted and equal numbers have equal hash codes in any form
+    *
+    * @return hash code of unscaled value and scale
+    */
+   @Override
+   public int hashCode() {
+      int hashCode;
+      if (isCompact()) {
+         hashCode = getHashCode(compactValue, scale);
+      } else if (value.unscaledValue().bitLength() < Long.SIZE) {
+         hashCode = getHashCode(value.unscaledValue().longValue(), scale);
+      } else {
+         hashCode = value.hashCode();
+      }
+
+      return hashCode;
+   }
+
+   /**
+    * Calculates hash code of given unscaled value and scale
+    *
+    * @param unscaledValue - given unscaled value
+    * @param scale         - given scale
+    * @return hash code of number
+    */
+   private static int getHashCode(long unscaledValue, int scale) {
+      return HASH_MULTIPLIER * Long.hashCode(unscaledValue) + scale;
+   }
+
+   /**
+    * Verifies has current number compact form
+    *
+    * @return true if number is kept as long unscaled value and scale
+    */
+   private boolean isCompact() {
+      return compactValue != INFLATED;
+   }
+
+   /**
+    * Getter for precision of current number
+    *
+    * @return count of digits of unscaled value
+    */
+   private int getPrecision() {
+      int precision;
+      if (isCompact()) {
+         long magnitude = Math.abs(compactValue);
+         precision = 1;
+         while (precision < LONG_TEN_POWERS.length && magnitude >= LONG_TEN_POWERS[precision]) {
+            precision++;
+         }
+      } else {
+         precision = value.precision();
+      }
+
+      return precision;
+   }
+
+   /**
+    * Getter for decimal exponent of compact number
+    *
+    * @return exponent of the first digit
+    */
+   private long getCompactExponent() {
+      return (long) getPrecision() - scale - 1;
+   }
+
+   /**
+    * Adds or subtracts given number with long arithmetic if both numbers are compact
+    * Scale of result is the max scale of numbers, the same as at BigDecimal
+    *
+    * @param number        - given number
+    * @param isSubtraction - given flag of subtraction of given number
+    * @return compact result or null if numbers aren't compact or result doesn't fit to long
+    */
+   private DecimalNumber addCompact(DecimalNumber number, boolean isSubtraction) {
+      DecimalNumber result = null;
+      if (isCompact() && number.isCompact()) {
+         long first = scaleCompact(compactValue, number.scale - scale);
+         long second = scaleCompact(number.compactValue, scale - number.scale);
+
+         if (first != INFLATED && second != INFLATED) {
+            try {
+               long sum;
+               if (isSubtraction) {
+                  sum = Math.subtractExact(first, second);
+               } else {
+                  sum = Math.addExact(first, second);
+               }
+               result = createCompact(sum, Math.max(scale, number.scale));
+            } catch (ArithmeticException e) {
+               result = null;
+            }
+         }
+
+      }
+
+      return result;
+   }
+
+   /**
+    * Multiplies current number by given number with long arithmetic if both numbers are compact
+    * Scale of result is the sum of scales of numbers, the same as at BigDecimal
+    *
+    * @param number - given number
+    * @return compact product or null if numbers aren't compact or product doesn't fit to long
+    */
+   private DecimalNumber multiplyCompact(DecimalNumber number) {
+      DecimalNumber result = null;
+      long productScale = (long) scale + number.scale;
+      if (isCompact() && number.isCompact() && productScale == (int) productScale) {
+         try {
+            result = createCompact(Math.multiplyExact(compactValue, number.compactValue), (int) productScale);
+         } catch (ArithmeticException e) {
+            result = null;
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Multiplies given unscaled value by ten at the given power
+    *
+    * @param unscaledValue - given unscaled value
+    * @param power         - given power of ten, not positive power doesn't change value
+    * @return scaled value or {@link #INFLATED} if it doesn't fit to long
+    */
+   private static long scaleCompact(long unscaledValue, int power) {
+      long result = unscaledValue;
+      if (power >= LONG_TEN_POWERS.length) {
+         result = INFLATED;
+      } else if (power > 0) {
+
+         try {
+            result = Math.multiplyExact(unscaledValue, LONG_TEN_POWERS[power]);
+         } catch (ArithmeticException e) {
+            result = INFLATED;
+         }
+
+      }
+
+      return result;
+   }
+
+   /**
+    * Creates compact number with given unscaled value and scale
+    *
+    * @param unscaledValue - given unscaled value
+    * @param scale         - given scale
+    * @return compact number or null if given value is {@link #INFLATED}
+    */
+   private static DecimalNumber createCompact(long unscaledValue, int scale) {
+      DecimalNumber result = null;
+      if (unscaledValue != INFLATED) {
+         result = new DecimalNumber(unscaledValue, scale);
+      }
+
+      return result;
+   }
+
+}
@@ -0,0 +1,234 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Number with value of product, which isn't multiplied until its digits are requested
+ * Estimates decimal exponent by exponents of factors, so overflow of product
+ * is verified without multiplication of factors with huge count of digits
+ * Multiplies factors on demand and caches result
+ */
+public class DeferredProduct extends CalcNumber {
+
+   /**
+    * Stores first factor of current number
+    */
+   private final CalcNumber firstFactor;
+   /**
+    * Stores second factor of current number
+    */
+   private final CalcNumber secondFactor;
+   /**
+    * Stores context of rounding of product, null if product isn't rounded
+    */
+   private final MathContext context;
+   /**
+    * Stores sign of current number
+    */
+   private final int signum;
+   /**
+    * Stores lower bound of decimal exponent of current number
+    */
+   private final long minExponent;
+   /**
+    * Stores upper bound of decimal exponent of current number
+    */
+   private final long maxExponent;
+   /**
+    * Stores calculated product
+    */
+   private CalcNumber product;
+
+   /**
+    * Constructs {@link DeferredProduct} of given factors
+    *
+    * @param firstFactor  - given first factor
+    * @param secondFactor - given second factor
+    */
+   public DeferredProduct(CalcNumber firstFactor, CalcNumber secondFactor) {
+      this(firstFactor, secondFactor, null);
+   }
+
+   /**
+    * Constructs {@link DeferredProduct} of given factors rounded to the given context
+    * Estimates sign and bounds of exponent once, so chains of products don't estimate factors again
+    *
+    * @param firstFactor  - given first factor
+    * @param secondFactor - given second factor
+    * @param context      - given context of rounding, may be null
+    */
+   private DeferredProduct(CalcNumber firstFactor, CalcNumber secondFactor, MathContext context) {
+      this.firstFactor = firstFactor;
+      this.secondFactor = secondFactor;
+      this.context = context;
+      signum = firstFactor.signum() * secondFactor.signum();
+      minExponent = firstFactor.minExponent() + secondFactor.minExponent();
+      if (context == null) {
+         maxExponent = firstFactor.maxExponent() + secondFactor.maxExponent() + 1;
+      } else {
+         maxExponent = firstFactor.maxExponent() + secondFactor.maxExponent() + 2;
+      }
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return BigDecimal value of calculated product
+    */
+   @Override
+   public BigDecimal toBigDecimal() {
+      return getProduct().toBigDecimal();
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param context - given context of rounding
+    * @return BigDecimal value of calculated product rounded to the given context
+    */
+   @Override
+   public BigDecimal toBigDecimal(MathContext context) {
+      return getProduct().toBigDecimal(context);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Product of signs of factors
+    *
+    * @return sign of current number
+    */
+   @Override
+   public int signum() {
+      return signum;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param bound - given positive BigDecimal bound
+    * @return result of comparing absolute value of calculated product with given bound
+    */
+   @Override
+   public int compareMagnitude(BigDecimal bound) {
+      return getProduct().compareMagnitude(bound);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Sum of lower bounds of exponents of factors
+    *
+    * @return lower bound of decimal exponent of current number
+    */
+   @Override
+   public long minExponent() {
+      return minExponent;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Sum of upper bounds of exponents of factors with carry of product
+    * and carry of rounding if product is rounded
+    *
+    * @return upper bound of decimal exponent of current number
+    */
+   @Override
+   public long maxExponent() {
+      return maxExponent;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Defers rounding to the multiplication if product isn't calculated yet
+    *
+    * @param context - given context of rounding
+    * @return rounded number or current number if it is rounded to the given context already
+    */
+   @Override
+   public CalcNumber round(MathContext context) {
+      CalcNumber result;
+      if (product == null && this.context == null) {
+         result = new DeferredProduct(firstFactor, secondFactor, context);
+      } else if (product == null && this.context.equals(context)) {
+         result = this;
+      } else {
+         result = getProduct().round(context);
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return negated calculated product
+    */
+   @Override
+   public CalcNumber negate() {
+      return getProduct().negate();
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param number - given number
+    * @return sum of calculated product and given number
+    */
+   @Override
+   public CalcNumber add(CalcNumber number) {
+      return getProduct().add(number);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param number - given number
+    * @return difference of calculated product and given number
+    */
+   @Override
+   public CalcNumber subtract(CalcNumber number) {
+      return getProduct().subtract(number);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param number - given number
+    * @return product of calculated product and given number
+    */
+   @Override
+   public CalcNumber multiply(CalcNumber number) {
+      return getProduct().multiply(number);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @param number - given divisor
+    * @return quotient of calculated product and given number
+    */
+   @Override
+   public CalcNumber divide(CalcNumber number) {
+      return getProduct().divide(number);
+   }
+
+   /**
+    * Getter for product of factors
+    * Multiplies and rounds factors on the first call
+    *
+    * @return calculated product
+    */
+   private CalcNumber getProduct() {
+      if (product == null) {
+         product = firstFactor.multiply(secondFactor);
+
+         if (context != null) {
+            product = product.round(context);
+         }
+
+      }
+
+      return product;
+   }
+
+}
@@ -0,0 +1,36 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+
+/**
+ * Enumeration of possible number backends at the {@link win_calculator.model.CalcModel}
+ */
+public enum NumberBackend {
+
+   /**
+    * Marker for the backend of exact BigDecimal values with lazily expanded quotients
+    */
+   DECIMAL,
+   /**
+    * Marker for the backend of rational values with gcd reduced numerator and denominator,
+    * which are rounded to 64 significant digits if both exceed 1024 bits
+    */
+   RATIONAL;
+
+   /**
+    * Converts given BigDecimal to the number of current backend
+    *
+    * @param value - given BigDecimal value
+    * @return number of current backend
+    */
+   public CalcNumber valueOf(BigDecimal value) {
+      CalcNumber number;
+      if (RATIONAL == this) {
+         number = RationalNumber.valueOf(value);
+      } else {
+         number = DecimalNumber.valueOf(value);
+      }
+
+      return number;
+   }
+}
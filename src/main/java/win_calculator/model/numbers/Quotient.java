@@ -0,0 +1,462 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Number with exact value of division result
+ * Stores numerator and denominator without decimal expansion
+ * Expands decimal digits on demand to the precision asked by consumer
+ * and caches last expansion and exact terminating expansion
+ * Products and quotients are reduced by gcd, so chains of multiply and divide don't grow fraction
+ */
+public class Quotient extends CalcNumber {
+
+   /**
+    * Constant: context of expansion for calculations with decimal numbers
+    */
+   private static final MathContext EXPANSION_CONTEXT = new MathContext(64, RoundingMode.HALF_UP);
+   /**
+    * Constant: five for verifying of terminating decimal expansion
+    */
+   private static final BigInteger FIVE = BigInteger.valueOf(5);
+   /**
+    * Constant: binary logarithm of five for estimation of five's exponent by bit length
+    */
+   private static final double FIVE_BITS = Math.log(5) / Math.log(2);
+   /**
+    * Constant: binary logarithm of ten for estimation of digits count by bit length
+    */
+   private static final double TEN_BITS = Math.log(10) / Math.log(2);
+
+   /**
+    * Stores numerator of current number
+    */
+   private final BigInteger numerator;
+   /**
+    * Stores positive denominator of current number
+    */
+   private final BigInteger denominator;
+   /**
+    * Stores last decimal expansion of current number
+    */
+   private Expansion expansion;
+   /**
+    * Stores exact decimal expansion with null context, its value is null if expansion isn't terminating,
+    * or null if it isn't verified yet
+    */
+   private Expansion terminatingExpansion;
+
+   /**
+    * Constructs {@link Quotient} with given numerator and denominator
+    * Moves sign of denominator to the numerator
+    *
+    * @param numerator   - given BigInteger numerator
+    * @param denominator - given not zero BigInteger denominator
+    */
+   Quotient(BigInteger numerator, BigInteger denominator) {
+      if (denominator.signum() < 0) {
+         this.numerator = numerator.negate();
+         this.denominator = denominator.negate();
+      } else {
+         this.numerator = numerator;
+         this.denominator = denominator;
+      }
+   }
+
+   /**
+    * Divides given dividend by given divisor
+    *
+    * @param dividend - given BigDecimal dividend
+    * @param divisor  - given BigDecimal divisor
+    * @return {@link DecimalNumber} if quotient has terminating decimal expansion
+    * else {@link Quotient}
+    * @throws ArithmeticException if divisor is zero
+    */
+   static CalcNumber of(BigDecimal dividend, BigDecimal divisor) {
+      if (divisor.signum() == 0) {
+         throw new ArithmeticException("Division by zero");
+      }
+      Quotient quotient = valueOf(dividend).divide(valueOf(divisor));
+      BigDecimal exactValue = quotient.toTerminatingDecimal();
+      CalcNumber result;
+
+      if (exactValue != null) {
+         result = DecimalNumber.valueOf(exactValue);
+      } else {
+         result = quotient;
+      }
+
+      return result;
+   }
+
+   /**
+    * Converts given BigDecimal to the {@link Quotient} with power of ten denominator
+    *
+    * @param value - given BigDecimal value
+    * @return converted {@link Quotient}
+    */
+   static Quotient valueOf(BigDecimal value) {
+      Quotient quotient;
+      int scale = value.scale();
+      if (scale > 0) {
+         quotient = new Quotient(value.unscaledValue(), BigInteger.TEN.pow(scale));
+      } else {
+         quotient = new Quotient(value.unscaledValue().multiply(BigInteger.TEN.pow(-scale)), BigInteger.ONE);
+      }
+
+      return quotient;
+   }
+
+   /**
+    * Creates {@link Quotient} with given numerator and denominator reduced by gcd
+    *
+    * @param numerator   - given BigInteger numerator
+    * @param denominator - given not zero BigInteger denominator
+    * @return reduced {@link Quotient}
+    */
+   private static Quotient reduce(BigInteger numerator, BigInteger denominator) {
+      BigInteger gcd = numerator.gcd(denominator);
+      Quotient quotient;
+      if (BigInteger.ONE.equals(gcd)) {
+         quotient = new Quotient(numerator, denominator);
+      } else {
+         quotient = new Quotient(numerator.divide(gcd), denominator.divide(gcd));
+      }
+
+      return quotient;
+   }
+
+   /**
+    * Converts given number to the {@link Quotient}
+    *
+    * @param number - given number
+    * @return converted {@link Quotient}
+    */
+   private static Quotient valueOf(CalcNumber number) {
+      Quotient quotient;
+      if (number instanceof Quotient) {
+         quotient = (Quotient) number;
+      } else {
+         quotient = valueOf(number.toBigDecimal());
+      }
+
+      return quotient;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Returns exact value if decimal expansion of current number is terminating
+    *
+    * @return BigDecimal expansion of current number for calculations
+    */
+   @Override
+   public BigDecimal toBigDecimal() {
+      BigDecimal value = toTerminatingDecimal();
+      if (value == null) {
+         value = toBigDecimal(EXPANSION_CONTEXT);
+      }
+
+      return value;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Returns cached expansion if it was made with the same context
+    *
+    * @param context - given context of rounding
+    * @return BigDecimal expansion of current number
+    */
+   @Override
+   public BigDecimal toBigDecimal(MathContext context) {
+      Expansion lastExpansion = expansion;
+      if (lastExpansion == null || !context.equals(lastExpansion.context)) {
+         BigDecimal value = new BigDecimal(numerator).divide(new BigDecimal(denominator), context);
+         lastExpansion = new Expansion(context, value);
+         expansion = lastExpansion;
+      }
+
+      return lastExpansion.value;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return sign of current number
+    */
+   @Override
+   public int signum() {
+      return numerator.signum();
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Compares numerator with bound multiplied by denominator
+    *
+    * @param bound - given positive BigDecimal bound
+    * @return result of comparing absolute value with given bound
+    */
+   @Override
+   public int compareMagnitude(BigDecimal bound) {
+      return new BigDecimal(numerator.abs()).compareTo(bound.multiply(new BigDecimal(denominator)));
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Estimates decimal exponent by bit lengths of numerator and denominator
+    *
+    * @return lower bound of decimal exponent of current number
+    */
+   @Override
+   public long minExponent() {
+      return (long) Math.floor((getBitsDifference() - 1) / TEN_BITS) - 1;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Estimates decimal exponent by bit lengths of numerator and denominator
+    *
+    * @return upper bound of decimal exponent of current number
+    */
+   @Override
+   public long maxExponent() {
+      return (long) Math.floor((getBitsDifference() + 1) / TEN_BITS) + 1;
+   }
+
+   /**
+    * Getter for difference of bit lengths of numerator and denominator
+    *
+    * @return binary logarithm of current number with error less than one
+    */
+   private long getBitsDifference() {
+      return (long) numerator.bitLength() - denominator.bitLength();
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Expands current number if its numerator or denominator is longer than precision of context
+    *
+    * @param context - given context of rounding
+    * @return rounded number or current number if it fits to the context
+    */
+   @Override
+   public CalcNumber round(MathContext context) {
+      CalcNumber result = this;
+      if (isLongerThan(context)) {
+         result = DecimalNumber.valueOf(toBigDecimal(context));
+      }
+
+      return result;
+   }
+
+   /**
+    * Verifies is numerator or denominator of current number longer than precision of given context
+    *
+    * @param context - given context of rounding
+    * @return true if current number has to be rounded
+    */
+   boolean isLongerThan(MathContext context) {
+      long maxBits = (long) Math.ceil(context.getPrecision() * TEN_BITS);
+      return Math.max(numerator.bitLength(), denominator.bitLength()) > maxBits;
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    *
+    * @return negated number
+    */
+   @Override
+   public CalcNumber negate() {
+      return new Quotient(numerator.negate(), denominator);
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Expands current number for the decimal addition
+    *
+    * @param number - given number
+    * @return sum of numbers
+    */
+   @Override
+   public CalcNumber add(CalcNumber number) {
+      return DecimalNumber.valueOf(toBigDecimal().add(number.toBigDecimal()));
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Expands current number for the decimal subtraction
+    *
+    * @param number - given number
+    * @return difference of numbers
+    */
+   @Override
+   public CalcNumber subtract(CalcNumber number) {
+      return DecimalNumber.valueOf(toBigDecimal().subtract(number.toBigDecimal()));
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Multiplies numerators and denominators without expansion and reduces product by gcd
+    *
+    * @param number - given number
+    * @return product of numbers
+    */
+   @Override
+   public CalcNumber multiply(CalcNumber number) {
+      Quotient quotient = valueOf(number);
+      return reduce(numerator.multiply(quotient.numerator), denominator.multiply(quotient.denominator));
+   }
+
+   /**
+    * Overridden method from {@link CalcNumber}
+    * Multiplies current number by inverted given number without expansion and reduces quotient by gcd
+    *
+    * @param number - given divisor
+    * @return quotient of numbers
+    */
+   @Override
+   public Quotient divide(CalcNumber number) {
+      Quotient quotient = valueOf(number);
+      if (quotient.signum() == 0) {
+         throw new ArithmeticException("Division by zero");
+      }
+
+      return reduce(numerator.multiply(quotient.denominator), denominator.multiply(quotient.numerator));
+   }
+
+   /**
+    * Converts current number to exact BigDecimal if its decimal expansion is terminating
+    * Result is cached, including not terminating expansion
+    *
+    * @return exact BigDecimal value or null if decimal expansion isn't terminating
+    */
+   private BigDecimal toTerminatingDecimal() {
+      Expansion lastExpansion = terminatingExpansion;
+      if (lastExpansion == null) {
+         lastExpansion = new Expansion(null, expandTerminatingDecimal());
+         terminatingExpansion = lastExpansion;
+      }
+
+      return lastExpansion.value;
+   }
+
+   /**
+    * Expands current number to exact BigDecimal if its decimal expansion is terminating
+    * Denominator of reduced fraction has to be 2^a * 5^b, then the value equals
+    * numerator * 2^(k - a) * 5^(k - b) with scale k = max(a, b)
+    *
+    * @return exact BigDecimal value or null if decimal expansion isn't terminating
+    */
+   private BigDecimal expandTerminatingDecimal() {
+      BigInteger gcd = denominator.gcd(numerator);
+      BigInteger reducedNumerator = numerator.divide(gcd);
+      BigInteger reducedDenominator = denominator.divide(gcd);
+      int twos = reducedDenominator.getLowestSetBit();
+      int fives = fivesExponent(reducedDenominator.shiftRight(twos));
+      BigDecimal result = null;
+
+      if (fives >= 0) {
+         int scale = Math.max(twos, fives);
+         BigInteger unscaledValue = reducedNumerator.multiply(FIVE.pow(scale - fives)).shiftLeft(scale - twos);
+         result = new BigDecimal(unscaledValue, scale);
+      }
+
+      return result;
+   }
+
+   /**
+    * Finds exponent of five which equals given number
+    * Estimates exponent by bit length of number and verifies nearest candidates
+    *
+    * @param number - given positive odd BigInteger
+    * @return exponent of five or -1 if given number isn't power of five
+    */
+   private static int fivesExponent(BigInteger number) {
+      int estimation = (int) ((number.bitLength() - 1) / FIVE_BITS);
+      int result = -1;
+
+      for (int exponent = Math.max(0, estimation - 1); exponent <= estimation + 1 && result < 0; exponent++) {
+         if (FIVE.pow(exponent).equals(number)) {
+            result = exponent;
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link Object}
+    * Quotients are equal if they have the same class, numerator and denominator,
+    * so equal values with not reduced fractions, like converted decimals, aren't equal
+    *
+    * @param object - given object
+    * @return true if given object is equal quotient
+    */
+   @Override
+   public boolean equals(Object object) {
+      boolean isEqual = this == object;
+      if (!isEqual && object != null && getClass() == object.getClass()) {
+         Quotient quotient = (Quotient) object;
+         isEqual = numerator.equals(quotient.numerator) && denominator.equals(quotient.denominator);
+      }
+
+      return isEqual;
+   }
+
+   /**
+    * Overridden method from {@link Object}
+    *
+    * @return hash code of numerator and denominator
+    */
+   @Override
+   public int hashCode() {
+      return 31 * numerator.hashCode() + denominator.hashCode();
+   }
+
+   /**
+    * Getter for the numerator
+    *
+    * @return BigInteger numerator of current number
+    */
+   BigInteger getNumerator() {
+      return numerator;
+   }
+
+   /**
+    * Getter for the denominator
+    *
+    * @return positive BigInteger denominator of current number
+    */
+   BigInteger getDenominator() {
+      return denominator;
+   }
+
+   /**
+    * Entity class of decimal expansion made with given context
+    */
+   private static class Expansion {
+
+      /**
+       * Stores context of expansion, null for exact expansion
+       */
+      private final MathContext context;
+      /**
+       * Stores BigDecimal value of expansion
+       */
+      private final BigDecimal value;
+
+      /**
+       * Constructs {@link Expansion} with given context and value
+       *
+       * @param context - given context of expansion
+       * @param value   - given BigDecimal value of expansion
+       */
+      private Expansion(MathContext context, BigDecimal value) {
+         this.context = context;
+         this.value = value;
+      }
+   }
+
+}
@@ -0,0 +1,197 @@
+package win_calculator.model.numbers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Rational number of bounded precision with numerator and denominator reduced by gcd
+ * All arithmetic methods return {@link RationalNumber}, other numbers are converted to the rational
+ * Value is exact while numerator or denominator has up to 1024 bits,
+ * number which numerator and denominator both exceed 1024 bits is rounded to 64 significant digits
+ * and stored as the rational with power of ten denominator, so costs of long divide
+ * and multiply chains stay bounded
+ */
+public class RationalNumber extends Quotient {
+
+   /**
+    * Constant: max bit length of both numerator and denominator which is kept exact
+    */
+   private static final int MAX_PRECISION_BITS = 1024;
+   /**
+    * Constant: context of rounding for the number which exceeds max precision
+    */
+   private static final MathContext ROUNDING_CONTEXT = new MathContext(64, RoundingMode.HALF_UP);
+
+   /**
+    * Constructs {@link RationalNumber} with given reduced numerator and denominator
+    *
+    * @param numerator   - given BigInteger numerator
+    * @param denominator - given positive BigInteger denominator
+    */
+   private RationalNumber(BigInteger numerator, BigInteger denominator) {
+      super(numerator, denominator);
+   }
+
+   /**
+    * Creates {@link RationalNumber} with given numerator and denominator
+    * Reduces them by gcd and rounds result if it exceeds max precision
+    *
+    * @param numerator   - given BigInteger numerator
+    * @param denominator - given not zero BigInteger denominator
+    * @return reduced {@link RationalNumber}, which is rounded to 64 significant digits if it exceeds max precision
+    * @throws ArithmeticException if denominator is zero
+    */
+   static RationalNumber of(BigInteger numerator, BigInteger denominator) {
+      if (denominator.signum() == 0) {
+         throw new ArithmeticException("Division by zero");
+      }
+      BigInteger gcd = numerator.gcd(denominator);
+      BigInteger reducedNumerator = numerator;
+      BigInteger reducedDenominator = denominator;
+
+      if (!BigInteger.ONE.equals(gcd)) {
+         reducedNumerator = numerator.divide(gcd);
+         reducedDenominator = denominator.divide(gcd);
+      }
+
+      if (reducedDenominator.signum() < 0) {
+         reducedNumerator = reducedNumerator.negate();
+         reducedDenominator = reducedDenominator.negate();
+      }
+
+      RationalNumber result;
+      if (isPrecisionExceeded(reducedNumerator, reducedDenominator)) {
+         BigDecimal roundedValue = new BigDecimal(reducedNumerator).divide(new BigDecimal(reducedDenominator), ROUNDING_CONTEXT);
+         result = valueOf(roundedValue);
+      } else {
+         result = new RationalNumber(reducedNumerator, reducedDenominator);
+      }
+
+      return result;
+   }
+
+   /**
+    * Converts given BigDecimal to the {@link RationalNumber}
+    *
+    * @param value - given BigDecimal value
+    * @return {@link RationalNumber}, which is rounded if it exceeds max precision
+    */
+   public static RationalNumber valueOf(BigDecimal value) {
+      Quotient quotient = Quotient.valueOf(value);
+      return of(quotient.getNumerator(), quotient.getDenominator());
+   }
+
+   /**
+    * Converts given number to the {@link RationalNumber}
+    *
+    * @param number - given number
+    * @return {@link RationalNumber}, which is rounded if it exceeds max precision
+    */
+   static RationalNumber valueOf(CalcNumber number) {
+      RationalNumber result;
+      if (number instanceof RationalNumber) {
+         result = (RationalNumber) number;
+      } else if (number instanceof Quotient) {
+         Quotient quotient = (Quotient) number;
+         result = of(quotient.getNumerator(), quotient.getDenominator());
+      } else {
+         result = valueOf(number.toBigDecimal());
+      }
+
+      return result;
+   }
+
+   /**
+    * Verifies do both numerator and denominator exceed max precision
+    *
+    * @param numerator   - given BigInteger numerator
+    * @param denominator - given BigInteger denominator
+    * @return true if number has to be rounded
+    */
+   private static boolean isPrecisionExceeded(BigInteger numerator, BigInteger denominator) {
+      return numerator.bitLength() > MAX_PRECISION_BITS && denominator.bitLength() > MAX_PRECISION_BITS;
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    * Keeps rounded number rational
+    *
+    * @param context - given context of rounding
+    * @return rounded number or current number if it fits to the context
+    */
+   @Override
+   public RationalNumber round(MathContext context) {
+      RationalNumber result = this;
+      if (isLongerThan(context)) {
+         result = valueOf(toBigDecimal(context));
+      }
+
+      return result;
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    *
+    * @return negated number
+    */
+   @Override
+   public RationalNumber negate() {
+      return new RationalNumber(getNumerator().negate(), getDenominator());
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    * Calculates sum without decimal expansion
+    *
+    * @param number - given number
+    * @return sum of numbers
+    */
+   @Override
+   public RationalNumber add(CalcNumber number) {
+      RationalNumber rational = valueOf(number);
+      BigInteger numerator = getNumerator().multiply(rational.getDenominator());
+      numerator = numerator.add(rational.getNumerator().multiply(getDenominator()));
+
+      return of(numerator, getDenominator().multiply(rational.getDenominator()));
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    * Calculates difference without decimal expansion
+    *
+    * @param number - given number
+    * @return difference of numbers
+    */
+   @Override
+   public RationalNumber subtract(CalcNumber number) {
+      return add(valueOf(number).negate());
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    *
+    * @param number - given number
+    * @return product of numbers
+    */
+   @Override
+   public RationalNumber multiply(CalcNumber number) {
+      RationalNumber rational = valueOf(number);
+      return of(getNumerator().multiply(rational.getNumerator()), getDenominator().multiply(rational.getDenominator()));
+   }
+
+   /**
+    * Overridden method from {@link Quotient}
+    *
+    * @param number - given divisor
+    * @return quotient of numbers
+    * @throws ArithmeticException if given divisor is zero
+    */
+   @Override
+   public RationalNumber divide(CalcNumber number) {
+      RationalNumber rational = valueOf(number);
+      return of(getNumerator().multiply(rational.getDenominator()), getDenominator().multiply(rational.getNumerator()));
+   }
+
+}
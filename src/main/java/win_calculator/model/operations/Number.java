@@ -1,5 +1,7 @@
 package win_calculator.model.operations;
 
+import win_calculator.model.numbers.CalcNumber;
+
 import java.math.BigDecimal;
 
 /**
@@ -8,17 +10,17 @@ import java.math.BigDecimal;
 public class Number implements Operation {
 
    /**
-    * Stores BigDecimal value of current number
+    * Stores value of current number
     */
-   private BigDecimal bigDecimalValue;
+   private CalcNumber value;
 
    /**
-    * Constructs {@link Number} with given BigDecimal value
+    * Constructs {@link Number} with given value
     *
-    * @param bigDecimalValue - given BigDecimal value
+    * @param value - given number value
     */
-   public Number(BigDecimal bigDecimalValue) {
-      this.bigDecimalValue = bigDecimalValue;
+   public Number(CalcNumber value) {
+      this.value = value;
    }
 
    /**
@@ -32,12 +34,22 @@ public class Number implements Operation {
    }
 
    /**
-    * Getter for the bigDecimalValue;
+    * Getter for the BigDecimal value;
+    * Expands digits of value if it isn't exact decimal
     *
     * @return BigDecimal value of current number
     */
    public BigDecimal getValue() {
-      return bigDecimalValue;
+      return value.toBigDecimal();
+   }
+
+   /**
+    * Getter for the value;
+    *
+    * @return value of current number
+    */
+   public CalcNumber getNumber() {
+      return value;
    }
 
 }
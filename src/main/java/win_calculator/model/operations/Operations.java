@@ -0,0 +1,101 @@
+package win_calculator.model.operations;
+
+import win_calculator.model.operations.backspace.BaskSpace;
+import win_calculator.model.operations.binary_operations.Add;
+import win_calculator.model.operations.binary_operations.Divide;
+import win_calculator.model.operations.binary_operations.Multiply;
+import win_calculator.model.operations.binary_operations.Subtract;
+import win_calculator.model.operations.clear.Clear;
+import win_calculator.model.operations.clear.ClearEntered;
+import win_calculator.model.operations.equal.Equal;
+import win_calculator.model.operations.extra_operations.Fraction;
+import win_calculator.model.operations.extra_operations.Negate;
+import win_calculator.model.operations.extra_operations.Sqr;
+import win_calculator.model.operations.extra_operations.Sqrt;
+import win_calculator.model.operations.memory_operations.MemoryOperation;
+import win_calculator.model.operations.percent.Percent;
+
+import static win_calculator.model.operations.memory_operations.MemoryOperationType.*;
+
+/**
+ * Abstract class with shared instances of operations
+ * Operations are stateless, so one instance of each operation is used by every calculator session
+ * and keystroke doesn't allocate new operation
+ * {@link Number} isn't here, because it keeps inputted number
+ */
+public abstract class Operations {
+
+   /**
+    * Constant: add operation
+    */
+   public static final Add ADD = new Add();
+   /**
+    * Constant: subtract operation
+    */
+   public static final Subtract SUBTRACT = new Subtract();
+   /**
+    * Constant: multiply operation
+    */
+   public static final Multiply MULTIPLY = new Multiply();
+   /**
+    * Constant: divide operation
+    */
+   public static final Divide DIVIDE = new Divide();
+   /**
+    * Constant: percent operation
+    */
+   public static final Percent PERCENT = new Percent();
+   /**
+    * Constant: square root operation
+    */
+   public static final Sqrt SQRT = new Sqrt();
+   /**
+    * Constant: square operation
+    */
+   public static final Sqr SQR = new Sqr();
+   /**
+    * Constant: fraction operation
+    */
+   public static final Fraction FRACTION = new Fraction();
+   /**
+    * Constant: negate operation
+    */
+   public static final Negate NEGATE = new Negate();
+   /**
+    * Constant: equal operation
+    */
+   public static final Equal EQUAL = new Equal();
+   /**
+    * Constant: clear entered operation
+    */
+   public static final ClearEntered CLEAR_ENTERED = new ClearEntered();
+   /**
+    * Constant: clear operation
+    */
+   public static final Clear CLEAR = new Clear();
+   /**
+    * Constant: backspace operation
+    */
+   public static final BaskSpace BACKSPACE = new BaskSpace();
+   /**
+    * Constant: clear memory operation
+    */
+   public static final MemoryOperation MEMORY_CLEAR = new MemoryOperation(CLEAR_MEMORY);
+   /**
+    * Constant: store to memory operation
+    */
+   public static final MemoryOperation MEMORY_STORE = new MemoryOperation(STORE);
+   /**
+    * Constant: recall from memory operation
+    */
+   public static final MemoryOperation MEMORY_RECALL = new MemoryOperation(RECALL);
+   /**
+    * Constant: add to memory operation
+    */
+   public static final MemoryOperation MEMORY_ADD = new MemoryOperation(ADD_TO_MEMORY);
+   /**
+    * Constant: subtract from memory operation
+    */
+   public static final MemoryOperation MEMORY_SUBTRACT = new MemoryOperation(SUBTRACT_FROM_MEMORY);
+
+}
@@ -1,9 +1,8 @@
 package win_calculator.model.operations.binary_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.OperationType;
 
-import java.math.BigDecimal;
-
 /**
  * Entity class for add operation at {@link win_calculator.model.CalcModel}
  */
@@ -11,14 +10,14 @@ public class Add implements BinaryOperation {
 
    /**
     * Overridden method from {@link BinaryOperation}
-    * Calculate add operation on given BigDecimal firstNumber with given BigDecimal secondNumber
+    * Calculate add operation on given firstNumber with given secondNumber
     *
-    * @param firstNumber  - given first BigDecimal number
-    * @param secondNumber - given second BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return result of calculation
     */
    @Override
-   public BigDecimal calculate(BigDecimal firstNumber, BigDecimal secondNumber) {
+   public CalcNumber calculate(CalcNumber firstNumber, CalcNumber secondNumber) {
       return firstNumber.add(secondNumber);
    }
 
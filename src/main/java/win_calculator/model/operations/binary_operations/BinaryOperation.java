@@ -1,15 +1,14 @@
 package win_calculator.model.operations.binary_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.Operation;
 import win_calculator.model.exceptions.OperationException;
 
-import java.math.BigDecimal;
-
 /**
  * Interface class for the binary operations at the {@link win_calculator.model.CalcModel}
  */
 public interface BinaryOperation extends Operation {
 
-    BigDecimal calculate(BigDecimal firstNumber, BigDecimal secondNumber) throws OperationException;
+    CalcNumber calculate(CalcNumber firstNumber, CalcNumber secondNumber) throws OperationException;
 
 }
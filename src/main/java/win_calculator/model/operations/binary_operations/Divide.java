@@ -1,11 +1,9 @@
 package win_calculator.model.operations.binary_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.OperationType;
 import win_calculator.model.exceptions.OperationException;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 import static win_calculator.model.exceptions.ExceptionType.DIVIDE_BY_ZERO;
 import static win_calculator.model.exceptions.ExceptionType.ZERO_DIVIDE_BY_ZERO;
 
@@ -14,29 +12,25 @@ import static win_calculator.model.exceptions.ExceptionType.ZERO_DIVIDE_BY_ZERO;
  */
 public class Divide implements BinaryOperation {
 
-   /**
-    * Constant of max scaling, is used for rounding before check on overflow
-    * is out of working number's range
-    */
-   private static final int SCALE = 10030;
-
    /**
     * Overridden method from {@link BinaryOperation}
-    * Calculate divide operation on given BigDecimal firstNumber with given BigDecimal secondNumber
+    * Calculate divide operation on given firstNumber with given secondNumber
+    * Result is exact: quotient without terminating decimal expansion is kept
+    * as numerator and denominator and its digits are expanded on demand
     *
-    * @param firstNumber  - given first BigDecimal number
-    * @param secondNumber - given second BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return result of calculation
     * throws {@link OperationException} if firstNumber and secondNumber equal zero or just secondNumber
     */
    @Override
-   public BigDecimal calculate(BigDecimal firstNumber, BigDecimal secondNumber) throws OperationException {
-      if (firstNumber.compareTo(BigDecimal.ZERO) == 0 && secondNumber.compareTo(BigDecimal.ZERO) == 0) {
+   public CalcNumber calculate(CalcNumber firstNumber, CalcNumber secondNumber) throws OperationException {
+      if (firstNumber.signum() == 0 && secondNumber.signum() == 0) {
          throw new OperationException(ZERO_DIVIDE_BY_ZERO);
       }
 
       try {
-         return firstNumber.divide(secondNumber, SCALE, RoundingMode.HALF_UP);
+         return firstNumber.divide(secondNumber);
       } catch (ArithmeticException e) {
          throw new OperationException(DIVIDE_BY_ZERO);
       }
@@ -1,8 +1,9 @@
 package win_calculator.model.operations.binary_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.OperationType;
 
-import java.math.BigDecimal;
+import static win_calculator.model.utils.ModelUtils.multiplyNumbers;
 
 /**
  * Entity class for multiply operation at {@link win_calculator.model.CalcModel}
@@ -11,15 +12,15 @@ public class Multiply implements BinaryOperation {
 
    /**
     * Overridden method from {@link BinaryOperation}
-    * Calculate multiply operation on given BigDecimal firstNumber with given BigDecimal secondNumber
+    * Calculate multiply operation on given firstNumber with given secondNumber
     *
-    * @param firstNumber  - given first BigDecimal number
-    * @param secondNumber - given second BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return result of calculation
     */
    @Override
-   public BigDecimal calculate(BigDecimal firstNumber, BigDecimal secondNumber) {
-      return firstNumber.multiply(secondNumber);
+   public CalcNumber calculate(CalcNumber firstNumber, CalcNumber secondNumber) {
+      return multiplyNumbers(firstNumber, secondNumber);
    }
 
    /**
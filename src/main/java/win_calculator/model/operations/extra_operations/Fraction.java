@@ -1,11 +1,10 @@
 package win_calculator.model.operations.extra_operations;
 
 import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
 import win_calculator.model.operations.OperationType;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 import static win_calculator.model.exceptions.ExceptionType.DIVIDE_BY_ZERO;
 
 /**
@@ -13,23 +12,19 @@ import static win_calculator.model.exceptions.ExceptionType.DIVIDE_BY_ZERO;
  */
 public class Fraction implements ExtraOperation {
 
-   /**
-    * Constant of max scaling for the calculator app
-    */
-   private static final int SCALE = 10000;
-
    /**
     * Overridden method from {@link ExtraOperation}
-    * Calculate BigDecimal.ONE divide on given BigDecimal number
+    * Calculate one divide on given number
+    * Result is exact, digits of not terminating quotient are expanded on demand
     *
-    * @param number - given BigDecimal number
-    * @return BigDecimal result of calculation
-    * throws {@link OperationException} when given BigDecimal number equals zero
+    * @param number - given number
+    * @return result of calculation
+    * throws {@link OperationException} when given number equals zero
     */
    @Override
-   public BigDecimal calculate(BigDecimal number) throws OperationException {
+   public CalcNumber calculate(CalcNumber number) throws OperationException {
       try {
-         return BigDecimal.ONE.divide(number, SCALE, RoundingMode.HALF_UP);
+         return DecimalNumber.ONE.divide(number);
       } catch (ArithmeticException e) {
          throw new OperationException(DIVIDE_BY_ZERO);
       }
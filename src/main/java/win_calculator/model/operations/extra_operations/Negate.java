@@ -1,9 +1,8 @@
 package win_calculator.model.operations.extra_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.OperationType;
 
-import java.math.BigDecimal;
-
 /**
  * Entity class for negate operation at {@link win_calculator.model.CalcModel}
  */
@@ -11,13 +10,13 @@ public class Negate implements ExtraOperation {
 
    /**
     * Overridden method from {@link ExtraOperation}
-    * Calculate negate operation on given BigDecimal number
+    * Calculate negate operation on given number
     *
-    * @param number - given BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param number - given number
+    * @return result of calculation
     */
    @Override
-   public BigDecimal calculate(BigDecimal number) {
+   public CalcNumber calculate(CalcNumber number) {
       return number.negate();
    }
 
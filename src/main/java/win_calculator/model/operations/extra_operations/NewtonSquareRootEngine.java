@@ -0,0 +1,128 @@
+package win_calculator.model.operations.extra_operations;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Square root engine with bounded working precision
+ * Starts from double precision seed and doubles count of correct digits
+ * on each Newton step until working precision is reached
+ * Returns correctly rounded (half up) results
+ */
+public class NewtonSquareRootEngine implements SquareRootEngine {
+
+   /**
+    * Constant: count of digits that display and history labels are able to show
+    */
+   private static final int VISIBLE_DIGITS = 16;
+   /**
+    * Constant: count of guard digits kept over visible digits for next calculations
+    */
+   private static final int GUARD_DIGITS = 16;
+   /**
+    * Constant: default working precision of engine
+    */
+   public static final int DEFAULT_PRECISION = VISIBLE_DIGITS + GUARD_DIGITS;
+   /**
+    * Constant: max bit length of integer which square root is calculated by double seed
+    */
+   private static final int SEED_BITS = 52;
+   /**
+    * Constant: count of extra digits for correct rounding of truncated root
+    */
+   private static final int ROUNDING_DIGITS = 1;
+
+   /**
+    * Stores rounding context of engine results
+    */
+   private final MathContext context;
+
+   /**
+    * Constructs engine with default working precision
+    */
+   public NewtonSquareRootEngine() {
+      this(DEFAULT_PRECISION);
+   }
+
+   /**
+    * Constructs engine with given working precision
+    *
+    * @param precision - given count of significant digits at results
+    */
+   public NewtonSquareRootEngine(int precision) {
+      if (precision <= 0) {
+         throw new IllegalArgumentException("Precision has to be positive: " + precision);
+      }
+      context = new MathContext(precision, RoundingMode.HALF_UP);
+   }
+
+   /**
+    * Overridden method from {@link SquareRootEngine}
+    * Scales given number to the integer with twice more digits than working precision,
+    * takes integer square root of it and rounds it back to the working precision
+    *
+    * @param number - given positive BigDecimal number
+    * @return BigDecimal square root rounded to the working precision of engine
+    */
+   @Override
+   public BigDecimal sqrt(BigDecimal number) {
+      int digits = context.getPrecision() + ROUNDING_DIGITS;
+      long integerDigits = (long) number.precision() - number.scale();
+      int shift = (int) ((2L * digits - integerDigits) / 2 + 1);
+      BigInteger integerValue = number.movePointRight(shift << 1).toBigInteger();
+
+      return new BigDecimal(sqrt(integerValue), shift).round(context);
+   }
+
+   /**
+    * Getter for working precision of engine
+    *
+    * @return count of significant digits at the engine's results
+    */
+   @Override
+   public int getPrecision() {
+      return context.getPrecision();
+   }
+
+   /**
+    * Calculates integer square root (floor) of given BigInteger
+    * Takes root of the high half of bits recursively and refines it by Newton step
+    * which doubles count of correct bits
+    *
+    * @param number - given not negative BigInteger
+    * @return BigInteger floor of square root
+    */
+   static BigInteger sqrt(BigInteger number) {
+      BigInteger root;
+      if (number.bitLength() <= SEED_BITS) {
+         long value = number.longValue();
+         long seed = (long) Math.sqrt(value);
+
+         while (seed * seed > value) {
+            seed--;
+         }
+
+         while ((seed + 1) * (seed + 1) <= value) {
+            seed++;
+         }
+
+         root = BigInteger.valueOf(seed);
+      } else {
+         int halfShift = number.bitLength() >> 2;
+         root = sqrt(number.shiftRight(halfShift << 1)).shiftLeft(halfShift);
+         root = root.add(number.divide(root)).shiftRight(1);
+
+         while (root.multiply(root).compareTo(number) > 0) {
+            root = root.add(number.divide(root)).shiftRight(1);
+         }
+
+         while (root.add(BigInteger.ONE).pow(2).compareTo(number) <= 0) {
+            root = root.add(BigInteger.ONE);
+         }
+      }
+
+      return root;
+   }
+}
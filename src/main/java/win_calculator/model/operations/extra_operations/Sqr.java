@@ -1,29 +1,25 @@
 package win_calculator.model.operations.extra_operations;
 
+import win_calculator.model.numbers.CalcNumber;
 import win_calculator.model.operations.OperationType;
 
-import java.math.BigDecimal;
+import static win_calculator.model.utils.ModelUtils.multiplyNumbers;
 
 /**
  * Entity class for square operation at {@link win_calculator.model.CalcModel}
  */
 public class Sqr implements ExtraOperation {
 
-   /**
-    * Constant of current exponent for the method
-    */
-   private static final int POW = 2;
-
    /**
     * Overridden method from {@link ExtraOperation}
-    * Calculate square operation on given BigDecimal number
+    * Calculate square operation on given number
     *
-    * @param number - given BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param number - given number
+    * @return result of calculation
     */
    @Override
-   public BigDecimal calculate(BigDecimal number) {
-      return number.pow(POW);
+   public CalcNumber calculate(CalcNumber number) {
+      return multiplyNumbers(number, number);
    }
 
    /**
@@ -1,10 +1,13 @@
 package win_calculator.model.operations.extra_operations;
 
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
 import win_calculator.model.operations.OperationType;
 import win_calculator.model.exceptions.OperationException;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import static win_calculator.model.exceptions.ExceptionType.NEGATIVE_VALUE_FOR_SQRT;
 
@@ -14,41 +17,53 @@ import static win_calculator.model.exceptions.ExceptionType.NEGATIVE_VALUE_FOR_S
 public class Sqrt implements ExtraOperation {
 
    /**
-    * Constant of max scaling for the method
+    * Constant: count of extra digits of radicand over twice precision of engine
     */
-   private static final int SCALE = 10001;
+   private static final int RADICAND_GUARD_DIGITS = 2;
+
+   /**
+    * The instance of {@link SquareRootEngine}
+    */
+   private final SquareRootEngine engine;
+
+   /**
+    * Constructs {@link Sqrt} with {@link NewtonSquareRootEngine} of default precision
+    */
+   public Sqrt() {
+      this(new NewtonSquareRootEngine());
+   }
+
+   /**
+    * Constructs {@link Sqrt} with given {@link SquareRootEngine}
+    *
+    * @param engine - given square root engine
+    */
+   public Sqrt(SquareRootEngine engine) {
+      this.engine = engine;
+   }
 
    /**
     * Overridden method from {@link ExtraOperation}
-    * Calculate square root operation on given BigDecimal number
+    * Calculate square root operation on given number
+    * by the {@link SquareRootEngine}
+    * Expands just digits of not exact decimal number which are needed for the engine precision
     *
-    * @param number - given BigDecimal number
-    * @return BigDecimal result of calculation
+    * @param number - given number
+    * @return result of calculation
     * throws {@link OperationException} if given number is less than zero
-    * <p>
-    * was taken from https://www.java-forums.org/advanced-java/44345-square-rooting-bigdecimal.html
     */
    @Override
-   public BigDecimal calculate(BigDecimal number) throws OperationException {
-      BigDecimal calculationResult;
-      if (number.compareTo(BigDecimal.ZERO) == 0 || number.compareTo(BigDecimal.ONE) == 0) {
-         calculationResult = number;
-
-      } else if (number.compareTo(BigDecimal.ZERO) < 0) {
+   public CalcNumber calculate(CalcNumber number) throws OperationException {
+      if (number.signum() < 0) {
          throw new OperationException(NEGATIVE_VALUE_FOR_SQRT);
+      }
+      CalcNumber calculationResult;
+      if (number.signum() == 0 || number.compareMagnitude(BigDecimal.ONE) == 0) {
+         calculationResult = number;
 
       } else {
-         BigInteger integerValue = number.movePointRight(SCALE << 1).toBigInteger();
-         int bits = (integerValue.bitLength() + 1) >> 1;
-         BigInteger firstVar = integerValue.shiftRight(bits);
-         BigInteger secondVar;
-
-         do {
-            secondVar = firstVar;
-            firstVar = firstVar.add(integerValue.divide(firstVar)).shiftRight(1);
-         } while (firstVar.compareTo(secondVar) != 0);
-
-         calculationResult = new BigDecimal(firstVar, SCALE);
+         MathContext radicandContext = new MathContext(2 * engine.getPrecision() + RADICAND_GUARD_DIGITS, RoundingMode.HALF_UP);
+         calculationResult = DecimalNumber.valueOf(engine.sqrt(number.toBigDecimal(radicandContext)));
       }
 
       return calculationResult;
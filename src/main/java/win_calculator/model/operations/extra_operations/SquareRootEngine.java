@@ -0,0 +1,24 @@
+package win_calculator.model.operations.extra_operations;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface class for the square root calculation engines used by {@link Sqrt}
+ */
+public interface SquareRootEngine {
+
+   /**
+    * Calculates square root of given positive BigDecimal number
+    *
+    * @param number - given positive BigDecimal number
+    * @return BigDecimal square root rounded to the working precision of engine
+    */
+   BigDecimal sqrt(BigDecimal number);
+
+   /**
+    * Getter for working precision of engine
+    *
+    * @return count of significant digits at the engine's results
+    */
+   int getPrecision();
+}
@@ -11,7 +11,7 @@ public class MemoryOperation implements Operation {
    /**
     * Stores {@link MemoryOperationType} of current memory operation
     */
-   private MemoryOperationType memoryOperationType;
+   private final MemoryOperationType memoryOperationType;
 
    /**
     * Constructs {@link MemoryOperation} with given {@link MemoryOperationType}
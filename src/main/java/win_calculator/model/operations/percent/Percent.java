@@ -1,5 +1,7 @@
 package win_calculator.model.operations.percent;
 
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
 import win_calculator.model.operations.Operation;
 import win_calculator.model.operations.OperationType;
 
@@ -13,16 +15,16 @@ public class Percent implements Operation {
    /**
     * Constant of percent calculation value
     */
-   private static final BigDecimal PERCENT = BigDecimal.valueOf(0.01);
+   private static final CalcNumber PERCENT = DecimalNumber.valueOf(BigDecimal.valueOf(0.01));
 
    /**
     * Calculates percent operation on given first number and second number
     *
-    * @param firstNumber  - given BigDecimal first number
-    * @param secondNumber - given BigDecimal second number
-    * @return BigDecimal result of operation
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return result of operation
     */
-   public BigDecimal calculate(BigDecimal firstNumber, BigDecimal secondNumber) {
+   public CalcNumber calculate(CalcNumber firstNumber, CalcNumber secondNumber) {
       return firstNumber.multiply(secondNumber.multiply(PERCENT));
    }
 
@@ -1,6 +1,9 @@
 package win_calculator.model.utils;
 
 import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.numbers.DeferredProduct;
 import win_calculator.model.operations.OperationType;
 
 import java.math.BigDecimal;
@@ -21,32 +24,87 @@ public abstract class ModelUtils {
     * Constant: module of min BigDecimal value for the {@link win_calculator.model.CalcModel}
     */
    private static final BigDecimal MIN_ABS_VALUE = new BigDecimal("1.e-9999");
+   /**
+    * Constant: decimal exponent of max BigDecimal value for the {@link win_calculator.model.CalcModel}
+    */
+   private static final int MAX_EXPONENT = getExponent(MAX_ABS_VALUE);
+   /**
+    * Constant: decimal exponent of min BigDecimal value for the {@link win_calculator.model.CalcModel}
+    */
+   private static final int MIN_EXPONENT = getExponent(MIN_ABS_VALUE);
 
    /**
-    * Verifies given BigDecimal number on overflow
+    * Verifies given number on overflow
     *
-    * @param number - given BigDecimal number
+    * @param number - given number
     * @throws OperationException if given number is overflow
     */
-   public static void checkOnOverflow(BigDecimal number) throws OperationException {
+   public static void checkOnOverflow(CalcNumber number) throws OperationException {
       if (isOverflow(number)) {
          throw new OperationException(OVERFLOW);
       }
    }
 
    /**
-    * Compares given BigDecimal number with max and min values for the model
+    * Calculates product of given numbers
+    * Defers multiplication if exponents of factors show that product is overflow,
+    * so {@link #checkOnOverflow(CalcNumber)} throws without multiplication of huge numbers
     *
-    * @param number - given BigDecimal number
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return product of numbers
+    */
+   public static CalcNumber multiplyNumbers(CalcNumber firstNumber, CalcNumber secondNumber) {
+      CalcNumber product;
+      if (isProductOverflow(firstNumber, secondNumber)) {
+         product = new DeferredProduct(firstNumber, secondNumber);
+      } else {
+         product = firstNumber.multiply(secondNumber);
+      }
+
+      return product;
+   }
+
+   /**
+    * Verifies is product of given numbers overflow by exponents of factors
+    * Verifies only not zero factors with exact decimal values, because other numbers
+    * depend on type of product at calculations
+    *
+    * @param firstNumber  - given first number
+    * @param secondNumber - given second number
+    * @return true if product is overflow even after rounding, false if it may be valid
+    */
+   private static boolean isProductOverflow(CalcNumber firstNumber, CalcNumber secondNumber) {
+      boolean result = false;
+      if (isDecimalFactor(firstNumber) && isDecimalFactor(secondNumber)) {
+         DeferredProduct product = new DeferredProduct(firstNumber, secondNumber);
+         result = product.minExponent() > MAX_EXPONENT || product.maxExponent() + 1 < MIN_EXPONENT;
+      }
+
+      return result;
+   }
+
+   /**
+    * Verifies is given number not zero factor with exact decimal value
+    *
+    * @param number - given number
+    * @return boolean verification result
+    */
+   private static boolean isDecimalFactor(CalcNumber number) {
+      return (number instanceof DecimalNumber || number instanceof DeferredProduct) && number.signum() != 0;
+   }
+
+   /**
+    * Compares given number with max and min values for the model
+    *
+    * @param number - given number
     * @return true if number is out of valid range
     */
-   private static boolean isOverflow(BigDecimal number) {
-      BigDecimal numberForCheck = number;
+   private static boolean isOverflow(CalcNumber number) {
       boolean result = false;
-      if (numberForCheck != null) {
-         numberForCheck = numberForCheck.abs();
+      if (number != null) {
 
-         if (isOverflowNumber(numberForCheck)) {
+         if (isOverflowNumber(number)) {
             result = true;
          }
          
@@ -56,15 +114,65 @@ public abstract class ModelUtils {
    }
 
    /**
-    * Verifies is given BigDecimal number overflow
-    * @param number - given BigDecimal number
+    * Verifies is given number overflow
+    * Compares exact absolute value of number, without expansion of its digits
+    * @param number - given number
+    * @return boolean verification result
+    */
+   private static boolean isOverflowNumber(CalcNumber number) {
+      return isBiggerMax(number) || isSmallerMin(number);
+   }
+
+   /**
+    * Verifies is absolute value of given number bigger than max value
+    * Decides by decimal exponent, compares full values only if number has exponent of max value
+    *
+    * @param number - given number
+    * @return boolean verification result
+    */
+   private static boolean isBiggerMax(CalcNumber number) {
+      boolean isBigger;
+      int exponentComparison = number.compareExponent(MAX_EXPONENT);
+      if (exponentComparison == 0) {
+         isBigger = number.compareMagnitude(MAX_ABS_VALUE) > 0;
+      } else {
+         isBigger = exponentComparison > 0;
+      }
+
+      return isBigger;
+   }
+
+   /**
+    * Verifies is absolute value of given not zero number smaller than min value
+    * Decides by decimal exponent, compares full values only if number has exponent of min value
+    *
+    * @param number - given number
     * @return boolean verification result
     */
-   private static boolean isOverflowNumber(BigDecimal number) {
-      boolean isBiggerMax = number.compareTo(MAX_ABS_VALUE) > 0;
-      boolean isSmallerMin = number.compareTo(MIN_ABS_VALUE) < 0 && number.compareTo(BigDecimal.ZERO) > 0;
+   private static boolean isSmallerMin(CalcNumber number) {
+      boolean isSmaller = false;
+      if (number.signum() != 0) {
+         int exponentComparison = number.compareExponent(MIN_EXPONENT);
+
+         if (exponentComparison == 0) {
+            isSmaller = number.compareMagnitude(MIN_ABS_VALUE) < 0;
+         } else {
+            isSmaller = exponentComparison < 0;
+         }
+
+      }
 
-      return isBiggerMax || isSmallerMin;
+      return isSmaller;
+   }
+
+   /**
+    * Gets decimal exponent of given not zero BigDecimal number
+    *
+    * @param number - given BigDecimal number
+    * @return exponent of the most significant digit
+    */
+   private static int getExponent(BigDecimal number) {
+      return number.precision() - number.scale() - 1;
    }
 
    /**
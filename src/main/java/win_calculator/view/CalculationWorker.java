@@ -0,0 +1,250 @@
+package win_calculator.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import win_calculator.controller.CalcController;
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.OperationType;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+
+import static win_calculator.model.operations.OperationType.CLEAR;
+import static win_calculator.model.operations.OperationType.MEMORY;
+
+/**
+ * Worker of calculator session, which calls {@link CalcController} out of the JavaFX application thread
+ * Keystrokes are queued to the one worker thread, so they are handled in order of pressing
+ * Response of every keystroke replaces pending response, and renderer gets only the latest one once per pulse
+ * of the {@link AnimationTimer}, so held key or pasted keystrokes are calculated one by one, but display
+ * and history labels are laid out once per frame
+ * Clear cancels keystrokes before it: queued keystrokes are skipped and response of running one is dropped,
+ * running calculation isn't interrupted, because BigDecimal arithmetic doesn't check interruption
+ * Keystrokes aren't cancelled while memory operation is queued, because it depends on them
+ * Keystrokes, which have disabled buttons after exception, are dropped at the worker thread
+ * if the controller is at the exception state when they are handled, so keys pressed before the rendering
+ * of exception don't continue calculation
+ */
+public class CalculationWorker {
+
+   /**
+    * Constant: name of worker thread
+    */
+   private static final String THREAD_NAME = "calculation-worker";
+
+   /**
+    * The instance of {@link CalcController}, which is used by worker thread only
+    */
+   private final CalcController controller;
+   /**
+    * Stores renderer of response and type of last operation, which is called at the JavaFX application thread
+    */
+   private final BiConsumer<String[], OperationType> renderer;
+   /**
+    * Stores executor with one worker thread
+    */
+   private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, THREAD_NAME);
+      thread.setDaemon(true);
+
+      return thread;
+   });
+   /**
+    * Stores generation of keystrokes, which is changed by cancelling Clear
+    */
+   private final AtomicLong generation = new AtomicLong();
+   /**
+    * Stores count of queued and running memory operations
+    */
+   private final AtomicInteger pendingMemoryOperations = new AtomicInteger();
+   /**
+    * Stores the latest response, which isn't rendered yet, or null
+    */
+   private final AtomicReference<PendingResponse> pendingResponse = new AtomicReference<>();
+   /**
+    * Stores timer, which renders pending response at every pulse
+    */
+   private final AnimationTimer renderTimer = new AnimationTimer() {
+
+      @Override
+      public void handle(long now) {
+         renderPendingResponse();
+      }
+   };
+
+   /**
+    * Constructs {@link CalculationWorker} of given controller
+    *
+    * @param controller - given controller, which isn't used by other threads after this call
+    * @param renderer   - given renderer of response and type of last operation
+    */
+   public CalculationWorker(CalcController controller, BiConsumer<String[], OperationType> renderer) {
+      this.controller = controller;
+      this.renderer = renderer;
+   }
+
+   /**
+    * Starts rendering of responses, has to be called at the JavaFX application thread
+    */
+   public void start() {
+      renderTimer.start();
+   }
+
+   /**
+    * Stops rendering of responses, has to be called at the JavaFX application thread
+    */
+   public void stop() {
+      renderTimer.stop();
+   }
+
+   /**
+    * Queues given digit, its response is rendered at the next pulse if no keystroke replaces it
+    * Decimal separator is dropped if controller is at the exception state
+    *
+    * @param digit - given digit
+    */
+   public void submitDigit(NumberSymbol digit) {
+      long taskGeneration = generation.get();
+      executor.execute(() -> {
+
+         if (taskGeneration == generation.get() && !controller.isBlockedByException(digit)) {
+            setPendingResponse(controller.handleDigit(digit), taskGeneration);
+         }
+
+      });
+   }
+
+   /**
+    * Queues given operation, its response is rendered at the next pulse if no keystroke replaces it
+    * Clear cancels queued keystrokes if memory operation isn't queued
+    * Operation with disabled button after exception is dropped if controller is at the exception state
+    *
+    * @param operation - given operation
+    */
+   public void submitOperation(Operation operation) {
+      queueOperation(operation, this::setPendingResponse);
+   }
+
+   /**
+    * Queues given operation and sends its response to given handler at the JavaFX application thread
+    * Response isn't rendered, so labels keep response of previous keystroke
+    *
+    * @param operation - given operation
+    * @param handler   - given handler of response and type of last operation
+    */
+   public void requestOperation(Operation operation, BiConsumer<String[], OperationType> handler) {
+      queueOperation(operation, (response, taskGeneration) -> sendResponse(response, taskGeneration, handler));
+   }
+
+   /**
+    * Queues given operation and sends its response to given consumer at the worker thread
+    *
+    * @param operation - given operation
+    * @param consumer  - given consumer of response and generation of keystroke
+    */
+   private void queueOperation(Operation operation, ObjLongConsumer<String[]> consumer) {
+      OperationType type = operation.getType();
+      if (CLEAR == type && pendingMemoryOperations.get() == 0) {
+         generation.incrementAndGet();
+      }
+
+      boolean isMemoryOperation = MEMORY == type;
+      if (isMemoryOperation) {
+         pendingMemoryOperations.incrementAndGet();
+      }
+
+      long taskGeneration = generation.get();
+      executor.execute(() -> {
+         try {
+
+            if (taskGeneration == generation.get() && !controller.isBlockedByException(operation)) {
+               consumer.accept(controller.handleOperation(operation), taskGeneration);
+            }
+
+         } finally {
+
+            if (isMemoryOperation) {
+               pendingMemoryOperations.decrementAndGet();
+            }
+
+         }
+      });
+   }
+
+   /**
+    * Replaces pending response by given one
+    *
+    * @param response       - given response of controller
+    * @param taskGeneration - given generation of keystroke
+    */
+   private void setPendingResponse(String[] response, long taskGeneration) {
+      pendingResponse.set(new PendingResponse(response, controller.getLastOperationType(), taskGeneration));
+   }
+
+   /**
+    * Renders pending response if it exists and isn't cancelled
+    */
+   private void renderPendingResponse() {
+      PendingResponse pending = pendingResponse.getAndSet(null);
+      if (pending != null && pending.generation == generation.get()) {
+         renderer.accept(pending.response, pending.lastOperationType);
+      }
+   }
+
+   /**
+    * Sends given response to given handler at the JavaFX application thread if it isn't cancelled
+    *
+    * @param response       - given response of controller
+    * @param taskGeneration - given generation of keystroke
+    * @param handler        - given handler of response
+    */
+   private void sendResponse(String[] response, long taskGeneration, BiConsumer<String[], OperationType> handler) {
+      OperationType lastOperationType = controller.getLastOperationType();
+      Platform.runLater(() -> {
+
+         if (taskGeneration == generation.get()) {
+            handler.accept(response, lastOperationType);
+         }
+
+      });
+   }
+
+   /**
+    * Entity class of response, which waits for the pulse
+    */
+   private static class PendingResponse {
+
+      /**
+       * Stores response of controller
+       */
+      private final String[] response;
+      /**
+       * Stores type of last operation of controller after response
+       */
+      private final OperationType lastOperationType;
+      /**
+       * Stores generation of keystroke
+       */
+      private final long generation;
+
+      /**
+       * Constructs {@link PendingResponse} with given values
+       *
+       * @param response          - given response of controller
+       * @param lastOperationType - given type of last operation
+       * @param generation        - given generation of keystroke
+       */
+      private PendingResponse(String[] response, OperationType lastOperationType, long generation) {
+         this.response = response;
+         this.lastOperationType = lastOperationType;
+         this.generation = generation;
+      }
+   }
+
+}
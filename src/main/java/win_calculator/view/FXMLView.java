@@ -21,20 +21,10 @@ import javafx.util.Callback;
 import javafx.util.Duration;
 import win_calculator.controller.CalcController;
 import win_calculator.controller.entities.NumberSymbol;
-import win_calculator.model.operations.percent.Percent;
-import win_calculator.model.operations.extra_operations.*;
-import win_calculator.model.operations.binary_operations.Add;
-import win_calculator.model.operations.binary_operations.Divide;
-import win_calculator.model.operations.binary_operations.Multiply;
-import win_calculator.model.operations.binary_operations.Subtract;
 import win_calculator.model.operations.Operation;
-import win_calculator.model.operations.backspace.BaskSpace;
-import win_calculator.model.operations.clear.ClearEntered;
-import win_calculator.model.operations.equal.Equal;
-import win_calculator.model.operations.clear.Clear;
+import win_calculator.model.operations.Operations;
 import win_calculator.model.operations.OperationType;
 import win_calculator.view.enums.MenuListOption;
-import win_calculator.model.operations.memory_operations.*;
 import win_calculator.view.containers.WindowContainer;
 import win_calculator.view.containers.DisplayFieldContainer;
 import win_calculator.view.containers.HistoryFieldContainer;
@@ -47,7 +37,6 @@ import java.util.ResourceBundle;
 import static win_calculator.controller.entities.Symbol.*;
 import static win_calculator.controller.utils.ControllerUtils.*;
 import static win_calculator.model.operations.OperationType.*;
-import static win_calculator.model.operations.memory_operations.MemoryOperationType.*;
 import static win_calculator.view.enums.MenuListOption.*;
 
 /**
@@ -157,6 +146,10 @@ public class FXMLView implements Initializable {
     * Instance of {@link CalcController}
     */
    private CalcController calcController = new CalcController();
+   /**
+    * The instance of {@link CalculationWorker}, which calls {@link CalcController} out of the application thread
+    */
+   private CalculationWorker calculationWorker = new CalculationWorker(calcController, this::renderResponse);
    /**
     * Instance of {@link HistoryFieldContainer}
     */
@@ -296,11 +289,6 @@ public class FXMLView implements Initializable {
    @FXML
    private GridPane mainButtonsGrid;
 
-   /**
-    * Flag: was digit entered before
-    */
-   private boolean wasDigitLast = false;
-
    /**
     * Field X of offset
     */
@@ -364,7 +352,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void clearEnteredBtnClick() {
-      handleOperation(new ClearEntered());
+      handleOperation(Operations.CLEAR_ENTERED);
    }
 
    /**
@@ -372,7 +360,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void clearBtnClick() {
-      handleOperation(new Clear());
+      handleOperation(Operations.CLEAR);
    }
 
    /**
@@ -380,7 +368,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void backspaceBtnClick() {
-      handleOperation(new BaskSpace());
+      handleOperation(Operations.BACKSPACE);
    }
 
    /**
@@ -477,7 +465,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void divideBtnClick() {
-      handleOperation(new Divide());
+      handleOperation(Operations.DIVIDE);
    }
 
    /**
@@ -485,7 +473,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void multiplyBtnClick() {
-      handleOperation(new Multiply());
+      handleOperation(Operations.MULTIPLY);
    }
 
    /**
@@ -493,7 +481,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void subtractBtnClick() {
-      handleOperation(new Subtract());
+      handleOperation(Operations.SUBTRACT);
    }
 
    /**
@@ -501,7 +489,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void addBtnClick() {
-      handleOperation(new Add());
+      handleOperation(Operations.ADD);
    }
 
    /**
@@ -509,7 +497,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void equalsBtnClick() {
-      handleOperation(new Equal());
+      handleOperation(Operations.EQUAL);
    }
 
    /**
@@ -517,7 +505,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void percentBtnClick() {
-      handleOperation(new Percent());
+      handleOperation(Operations.PERCENT);
    }
 
    /**
@@ -525,7 +513,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void sqrtBtnClick() {
-      handleOperation(new Sqrt());
+      handleOperation(Operations.SQRT);
    }
 
    /**
@@ -533,7 +521,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void sqrBtnClick() {
-      handleOperation(new Sqr());
+      handleOperation(Operations.SQR);
    }
 
    /**
@@ -541,7 +529,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void fractionBtnOneClick() {
-      handleOperation(new Fraction());
+      handleOperation(Operations.FRACTION);
    }
 
    /**
@@ -549,7 +537,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void negateBtnClick() {
-      handleOperation(new Negate());
+      handleOperation(Operations.NEGATE);
    }
 
    /**
@@ -557,7 +545,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void clearMemoryBtnClick() {
-      handleOperation(new MemoryOperation(CLEAR_MEMORY));
+      handleOperation(Operations.MEMORY_CLEAR);
       setDisableMemoryButtons(true);
    }
 
@@ -566,7 +554,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void memoryRecallBtnClick() {
-      handleOperation(new MemoryOperation(RECALL));
+      handleOperation(Operations.MEMORY_RECALL);
    }
 
    /**
@@ -574,7 +562,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void memoryAddBtnClick() {
-      handleOperation(new MemoryOperation(ADD_TO_MEMORY));
+      handleOperation(Operations.MEMORY_ADD);
       setDisableMemoryButtons(false);
    }
 
@@ -583,7 +571,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void memorySubtractBtnClick() {
-      handleOperation(new MemoryOperation(SUBTRACT_FROM_MEMORY));
+      handleOperation(Operations.MEMORY_SUBTRACT);
       setDisableMemoryButtons(false);
    }
 
@@ -592,7 +580,7 @@ public class FXMLView implements Initializable {
     */
    @FXML
    private void memoryStoreBtnClick() {
-      handleOperation(new MemoryOperation(STORE));
+      handleOperation(Operations.MEMORY_STORE);
       setDisableMemoryButtons(false);
    }
 
@@ -603,8 +591,8 @@ public class FXMLView implements Initializable {
    private void memoryShowBtnClick() {
       ObservableList<Node> menuNodes = dropDownContainer.getChildren();
       menuNodes.add(prepareBackground());
-      String[] response = calcController.handleOperation(new MemoryOperation(RECALL));
-      menuNodes.add(prepareDropDownLabel(response[0], DROPPED_MEMORY_ID));
+      calculationWorker.requestOperation(Operations.MEMORY_RECALL,
+              (response, lastOperationType) -> menuNodes.add(prepareDropDownLabel(response[0], DROPPED_MEMORY_ID)));
    }
 
    @Override
@@ -616,6 +604,7 @@ public class FXMLView implements Initializable {
       historyContainer.setHistoryField(historyField, historyScroll);
       windowContainer.setFullScreenBtn(fullScreenBtn);
       windowContainer.setStage(rootPane);
+      calculationWorker.start();
    }
 
    /**
@@ -631,39 +620,37 @@ public class FXMLView implements Initializable {
    }
 
    /**
-    * Handle given numberSymbol and sets up response from the {@link CalcController}
-    * on the display and history labels
+    * Sends given numberSymbol to the {@link CalculationWorker}, response from the {@link CalcController}
+    * is rendered at the next pulse
     *
     * @param numberSymbol - given numberSymbol
     */
    private void handleDigit(NumberSymbol numberSymbol) {
-      String[] response = calcController.handleDigit(numberSymbol);
-      displayContainer.sendDigitToDisplay(response[0], wasDigitLast);
-      handleDataFromResponse(response);
-      wasDigitLast = true;
+      calculationWorker.submitDigit(numberSymbol);
    }
 
    /**
-    * Handle given digit and sets up response from the {@link CalcController}
-    * on the display and history labels
+    * Sends given operation to the {@link CalculationWorker}, response from the {@link CalcController}
+    * is rendered at the next pulse
     *
     * @param operation - given operation
     */
    private void handleOperation(Operation operation) {
-      String[] response = calcController.handleOperation(operation);
-      displayContainer.setDisplayedText(response[0]);
-      handleDataFromResponse(response);
-      wasDigitLast = false;
+      calculationWorker.submitOperation(operation);
    }
 
    /**
-    * Sets up view in depends on given response
+    * Sets up display and history labels and buttons in depends on given response
+    * Called once per pulse with the latest response, so labels are laid out once for all keystrokes before it
+    * Disabled buttons only show the exception state, keystrokes after exception are dropped
+    * by the {@link CalculationWorker} before this call
     *
-    * @param response - given response
+    * @param response          - given response
+    * @param lastOperationType - given type of last operation of the {@link CalcController} after response
     */
-   private void handleDataFromResponse(String[] response) {
+   private void renderResponse(String[] response, OperationType lastOperationType) {
+      displayContainer.setDisplayedText(response[0]);
       setDisableOperationButtons(false);
-      OperationType lastOperationType = calcController.getLastOperationType();
       if (isNotNumber(response[0])) {
          setDisableOperationButtons(true);
          historyContainer.setHistoryText(response[1]);
@@ -2,9 +2,6 @@ package win_calculator.view.containers;
 
 import javafx.scene.control.Label;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
-
-import java.util.regex.Pattern;
 
 import static win_calculator.controller.utils.ControllerUtils.isComaAbsent;
 
@@ -17,34 +14,29 @@ public class DisplayFieldContainer {
     * Constant: String represent of symbol coma
     */
    private static final String COMA = ",";
-   /**
-    * Constant: int value of max possible digits at the display label
-    */
-   private static final int MAX_DIGITS = 16;
    /**
     * Constant: int value of default font size for the display label
     */
-   private static final double DEFAULT_FONT_SIZE = 47.0;
-   /**
-    * Constant: class id for display label text at FXApp
-    */
-   private static final String DISPLAY_TEXT_ID = ".text";
+   private static final int DEFAULT_FONT_SIZE = 47;
+
    /**
-    * Constant: match first zero presents pattern
+    * Instance of display label
     */
-   private static final Pattern FIRST_ZERO_PATTERN = Pattern.compile("0,");
+   private Label display;
    /**
-    * Constant: match space or coma presents pattern
+    * Instance of {@link FontSizeFitter} of display label
     */
-   private static final Pattern SPACE_OR_COMA_PATTERN = Pattern.compile("[ ,]");
+   private final FontSizeFitter fontSizeFitter = new FontSizeFitter(DEFAULT_FONT_SIZE);
 
    /**
-    * Instance of display label
+    * Display label setter
+    * Fixes font size when label is resized
+    *
+    * @param display - given display label
     */
-   private Label display;
-
    public void setDisplay(Label display) {
       this.display = display;
+      display.widthProperty().addListener(observable -> fixFontSize());
    }
 
    /**
@@ -69,52 +61,19 @@ public class DisplayFieldContainer {
    }
 
    /**
-    * Changes font of display label text depends on correct displaying
+    * Changes font of display label text to the largest size, at which text fits the label
+    * Font isn't changed before the label is laid out first time, label is laid out with new font at the next pulse
     */
    private void fixFontSize() {
-      String fontName = display.getFont().getName();
-      display.setFont(new Font(fontName, DEFAULT_FONT_SIZE));
-      display.layout();
+      double width = display.getWidth() - display.snappedLeftInset() - display.snappedRightInset();
+      if (width > 0) {
+         String fontName = display.getFont().getName();
+         int fontSize = fontSizeFitter.fit(display.getText(), fontName, width);
 
-      while (isOverrun()) {
-         display.setFont(new Font(fontName, display.getFont().getSize() - 1));
-         display.layout();
-      }
-   }
+         if (display.getFont().getSize() != fontSize) {
+            display.setFont(new Font(fontName, fontSize));
+         }
 
-   /**
-    * Compares displayed text at window with text that label contains
-    *
-    * @return true if displayed text equals contained text
-    */
-   private boolean isOverrun() {
-      String shownText = ((Text) display.lookup(DISPLAY_TEXT_ID)).getText();
-
-      return !display.getText().equals(shownText);
-   }
-
-   /**
-    * Verifies is current number length not max
-    *
-    * @return true if it is not
-    */
-   private boolean isNotMax() {
-      String displayedText = display.getText();
-      displayedText = FIRST_ZERO_PATTERN.matcher(displayedText).replaceFirst("");
-      displayedText = SPACE_OR_COMA_PATTERN.matcher(displayedText).replaceAll("");
-
-      return displayedText.length() < MAX_DIGITS;
-   }
-
-   /**
-    * Adds given number to display label text in depends on previous operation
-    *
-    * @param number         - given string value of number
-    * @param wasDigitBefore - was digit entered before
-    */
-   public void sendDigitToDisplay(String number, boolean wasDigitBefore) {
-      if (isNotMax() || !wasDigitBefore) {
-         setDisplayedText(number);
       }
    }
 }
@@ -0,0 +1,141 @@
+package win_calculator.view.containers;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the largest font size, at which text fits given width, by binary search between min and max sizes
+ * Text is measured by own {@link Text} node out of the scene, so label isn't laid out for each tried size
+ * Found sizes are cached by length of text and width and are used as start of search, so repeated display
+ * updates and resizing to the known width cost two measurements: cached size has to fit the text and the next size
+ * mustn't fit it, else search continues down or up from cached size, because text of the same length may have
+ * wider or narrower symbols
+ */
+public class FontSizeFitter {
+
+   /**
+    * Constant: int value of min font size
+    */
+   private static final int MIN_FONT_SIZE = 1;
+   /**
+    * Constant: max count of cached sizes
+    */
+   private static final int CACHE_CAPACITY = 256;
+   /**
+    * Constant: load factor of cache map
+    */
+   private static final float LOAD_FACTOR = 0.75f;
+
+   /**
+    * Stores max font size
+    */
+   private final int maxFontSize;
+   /**
+    * Stores node, which measures width of text
+    */
+   private final Text measuredText = new Text();
+   /**
+    * Stores found font sizes by length of text and width in access order
+    */
+   private final Map<Long, Integer> fittedSizes = new LinkedHashMap<Long, Integer>(16, LOAD_FACTOR, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+         return size() > CACHE_CAPACITY;
+      }
+   };
+   /**
+    * Stores name of font of cached sizes
+    */
+   private String fontName;
+
+   /**
+    * Constructs {@link FontSizeFitter} with given max font size
+    *
+    * @param maxFontSize - given max font size
+    */
+   public FontSizeFitter(int maxFontSize) {
+      this.maxFontSize = maxFontSize;
+   }
+
+   /**
+    * Finds the largest font size, at which given text fits given width
+    * Cached sizes are removed if font is changed
+    *
+    * @param text     - given text
+    * @param fontName - given name of font
+    * @param width    - given available width
+    * @return fitting font size, or min font size if text doesn't fit at any size
+    */
+   public int fit(String text, String fontName, double width) {
+      if (!fontName.equals(this.fontName)) {
+         fittedSizes.clear();
+         this.fontName = fontName;
+      }
+
+      int availableWidth = (int) width;
+      Long key = (long) text.length() << Integer.SIZE | availableWidth;
+      Integer cachedSize = fittedSizes.get(key);
+      int fontSize;
+      if (cachedSize == null) {
+         fontSize = search(text, availableWidth, MIN_FONT_SIZE, maxFontSize);
+      } else if (!isFitting(text, cachedSize, availableWidth)) {
+         fontSize = search(text, availableWidth, MIN_FONT_SIZE, cachedSize - 1);
+      } else if (cachedSize < maxFontSize && isFitting(text, cachedSize + 1, availableWidth)) {
+         fontSize = search(text, availableWidth, cachedSize + 1, maxFontSize);
+      } else {
+         fontSize = cachedSize;
+      }
+
+      if (cachedSize == null || fontSize != cachedSize) {
+         fittedSizes.put(key, fontSize);
+      }
+
+      return fontSize;
+   }
+
+   /**
+    * Searches the largest font size between given sizes, at which given text fits given width
+    *
+    * @param text           - given text
+    * @param availableWidth - given width
+    * @param minSize        - given min size, at which text is supposed to fit, or min font size
+    * @param maxSize        - given max size
+    * @return fitting font size, or given min size if text doesn't fit at any bigger size
+    */
+   private int search(String text, int availableWidth, int minSize, int maxSize) {
+      int low = minSize;
+      int high = maxSize;
+      while (low < high) {
+         int middle = (low + high + 1) >>> 1;
+
+         if (isFitting(text, middle, availableWidth)) {
+            low = middle;
+         } else {
+            high = middle - 1;
+         }
+
+      }
+
+      return low;
+   }
+
+   /**
+    * Verifies does given text fit given width at given font size
+    *
+    * @param text           - given text
+    * @param fontSize       - given font size
+    * @param availableWidth - given width
+    * @return true if width of text isn't more than given width
+    */
+   private boolean isFitting(String text, int fontSize, int availableWidth) {
+      measuredText.setFont(new Font(fontName, fontSize));
+      measuredText.setText(text);
+
+      return measuredText.getLayoutBounds().getWidth() <= availableWidth;
+   }
+
+}
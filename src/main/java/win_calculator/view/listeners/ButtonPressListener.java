@@ -1,15 +1,16 @@
 package win_calculator.view.listeners;
 
 import javafx.scene.control.Button;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 
 import java.util.HashMap;
 
-import static org.loadui.testfx.GuiTest.find;
-
 /**
  * Listener of keyboard buttons events
  * Binds keys with buttons on FXApp
+ * Each window has own listener, so state of Shift button isn't shared between windows
  */
 public class ButtonPressListener {
 
@@ -26,10 +27,24 @@ public class ButtonPressListener {
     */
    private static final String SHIFT_STR = "Shift";
 
+   /**
+    * Stores scene of window with buttons
+    */
+   private final Scene scene;
+
    /**
     * Flag: is Shift button pressed on the keyboard
     */
-   private static boolean shiftPressed = false;
+   private boolean shiftPressed = false;
+
+   /**
+    * Constructs {@link ButtonPressListener} for buttons of given scene
+    *
+    * @param scene - given scene of window
+    */
+   private ButtonPressListener(Scene scene) {
+      this.scene = scene;
+   }
 
    /**
     * Initializes map with keyboard key and button's id at FXApp
@@ -93,24 +108,35 @@ public class ButtonPressListener {
     * @param stage - window of current FXApp
     */
    public static void addButtonPressListener(Stage stage) {
-      stage.getScene().setOnKeyPressed(event -> {
+      Scene scene = stage.getScene();
+      ButtonPressListener listener = new ButtonPressListener(scene);
+      scene.setOnKeyPressed(listener::handleKeyPress);
+   }
 
-         String name = event.getCode().getName();
-         Button button;
-         if (SHIFT_STR.equals(name)) {
-            shiftPressed = true;
-         } else {
+   /**
+    * Fires button of the scene bound with pressed key or key combination
+    *
+    * @param event - given keyboard event
+    */
+   private void handleKeyPress(KeyEvent event) {
+      String name = event.getCode().getName();
+      Button button;
+      if (SHIFT_STR.equals(name)) {
+         shiftPressed = true;
+      } else {
 
-            if (shiftPressed) {
-               button = find(combos.get(name));
-               shiftPressed = false;
-            } else {
-               button = find(buttons.get(name));
-            }
+         if (shiftPressed) {
+            button = (Button) scene.lookup(combos.get(name));
+            shiftPressed = false;
+         } else {
+            button = (Button) scene.lookup(buttons.get(name));
+         }
 
+         if (button != null) {
             button.fire();
          }
-      });
+
+      }
    }
 
-}
\ No newline at end of file
+}
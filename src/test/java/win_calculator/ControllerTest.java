@@ -22,7 +22,7 @@ import static win_calculator.model.operations.memory_operations.MemoryOperationT
  */
 class ControllerTest {
 
-    private static final CalcController controller = new CalcController();
+    private final CalcController controller = createController();
     private static final HashMap<String, Operation> operations = createOperationsMap();
     private static final HashMap<String,NumberSymbol> digits = createDigitsMap();
     private static final String IS_DIGIT_REGEX = "\\d+(,\\d+)?";
@@ -542,6 +542,24 @@ class ControllerTest {
 
     }
 
+    @Test
+    void testInverseOperations(){
+
+        test("2 sqrt sqr", "2", "sqr( √( 2 ) )");
+        test("2 sqrt sqr - 2 =", "0", "");
+        test("2 sqrt sqr sqrt sqr - 2 =", "0", "");
+        test("3 ± sqr sqrt", "3", "√( sqr( -3 ) )");
+        test("3 ± sqr sqrt + 3 =", "6", "");
+        test("3 ± sqr sqrt ±", "-3", "negate( √( sqr( -3 ) ) )");
+        test("7 1/x 1/x", "7", "1/( 1/( 7 ) )");
+        test("7 1/x 1/x - 7 =", "0", "");
+        test("3 1/x 1/x sqrt sqr", "3", "sqr( √( 1/( 1/( 3 ) ) ) )");
+
+        test("2 sqrt 1,414213562373095 sqr", "2", "sqr( 1,414213562373095 )");
+        test("2 sqrt 1,414213562373095 sqr - 2 =", "-1,38032020120975e-16", "");
+        test("2 sqrt MS MR sqr - 2 =", "5,434625658377656e-33", "");
+    }
+
     @Test
     void testFraction(){
 
@@ -1168,6 +1186,15 @@ class ControllerTest {
         test("7320 / 3 * 1 + 3 sqrt MS C MR * 2" , "2","1,732050807568877  ×  ");
     }
 
+    /**
+     * Method creates controller for tests
+     * @return CalcController with default model
+     */
+    CalcController createController(){
+
+        return new CalcController();
+    }
+
     /**
      * Method assert response from processTest(String) with expected data
      * @param expression - String with expression for test
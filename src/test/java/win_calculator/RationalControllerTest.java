@@ -0,0 +1,19 @@
+package win_calculator;
+
+import win_calculator.controller.CalcController;
+import win_calculator.model.CalcModel;
+import win_calculator.model.numbers.NumberBackend;
+
+/**
+ * Test class for calculator controller with rational number backend.
+ * Runs all scripts of {@link ControllerTest} on {@link CalcModel} with {@link NumberBackend}.RATIONAL,
+ * so both backends give the same responses.
+ */
+class RationalControllerTest extends ControllerTest {
+
+    @Override
+    CalcController createController(){
+
+        return new CalcController(new CalcModel(NumberBackend.RATIONAL));
+    }
+}
@@ -0,0 +1,181 @@
+package win_calculator.controller;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.controller.entities.Symbol;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.Operations;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for dropping of keystrokes after exception at {@link CalcController}.
+ * Replays keystrokes the same way as {@link win_calculator.view.CalculationWorker}:
+ * keystroke, which is blocked by exception, isn't sent to the controller,
+ * so keys queued after exception don't change its response.
+ */
+class CalcControllerTest {
+
+    private static final String DIVIDE_BY_ZERO_MSG = "Cannot divide by zero";
+    private static final String[] BLOCKED = {"+", "-", "*", "/", "%", "sqrt", "sqr", "1/x", "±", "M+", "M-", "MS",
+            ","};
+    private static final String[] ALLOWED = {"0", "5", "=", "C", "CE", "⟵", "MC", "MR"};
+    private static final String[] EXCEPTIONS = {"1 / 0 =", "0 / 0 =", "1 ± sqrt", "0 1/x"};
+
+    private static final HashMap<String, Operation> OPERATIONS = createOperationsMap();
+
+    @Test
+    void testDivideByZeroAndSqr(){
+
+        String[] response = replay(new CalcController(), "1 / 0 = sqr");
+        assertEquals(DIVIDE_BY_ZERO_MSG, response[0]);
+        assertArrayEquals(replay(new CalcController(), "1 / 0 ="), response);
+
+        CalcController controller = new CalcController();
+        replay(controller, "1 / 0 = sqr");
+        assertNull(replay(controller, "+ , ±"));
+        assertEquals("5", replay(controller, "5")[0]);
+        assertFalse(controller.isBlockedByException(OPERATIONS.get("sqr")));
+        assertEquals("25", replay(controller, "sqr")[0]);
+    }
+
+    @Test
+    void testBlockedKeystrokes(){
+
+        for (String exception : EXCEPTIONS) {
+
+            for (String blocked : BLOCKED) {
+                CalcController controller = new CalcController();
+                replay(controller, exception);
+                assertTrue(isBlocked(controller, blocked), exception + " " + blocked);
+                assertNull(replay(controller, blocked), exception + " " + blocked);
+
+                assertArrayEquals(replay(new CalcController(), exception + " 5 + 2 ="),
+                        replay(new CalcController(), exception + " " + blocked + " 5 + 2 ="), exception + " " + blocked);
+            }
+
+            for (String allowed : ALLOWED) {
+                CalcController controller = new CalcController();
+                replay(controller, exception);
+                assertFalse(isBlocked(controller, allowed), exception + " " + allowed);
+            }
+
+        }
+    }
+
+    @Test
+    void testWithoutException(){
+
+        CalcController controller = new CalcController();
+        for (String token : BLOCKED) {
+            assertFalse(isBlocked(controller, token), token);
+        }
+
+        replay(controller, "1 / 0 = C");
+        for (String token : BLOCKED) {
+            assertFalse(isBlocked(controller, token), token);
+        }
+        assertEquals("3", replay(controller, "1 + 2 =")[0]);
+    }
+
+    /**
+     * Method sends tokens of given expression to the given controller and drops blocked keystrokes
+     * @param controller - given controller
+     * @param expression - given tokens separated by spaces
+     * @return response after the last handled keystroke, or null if all keystrokes were dropped
+     */
+    private String[] replay(CalcController controller, String expression){
+
+        String[] response = null;
+        for (String token : expression.split(" ")) {
+
+            if (OPERATIONS.containsKey(token)) {
+                Operation operation = OPERATIONS.get(token);
+                if (!controller.isBlockedByException(operation)) {
+                    response = controller.handleOperation(operation);
+                }
+            } else {
+                for (char symbol : token.toCharArray()) {
+                    NumberSymbol digit = createDigit(symbol);
+                    if (!controller.isBlockedByException(digit)) {
+                        response = controller.handleDigit(digit);
+                    }
+                }
+            }
+
+        }
+        return response;
+    }
+
+    /**
+     * Method verifies is given token blocked at the given controller
+     * @param controller - given controller
+     * @param token - given operation or digit
+     * @return true if keystroke is dropped
+     */
+    private boolean isBlocked(CalcController controller, String token){
+
+        boolean isBlocked;
+        if (OPERATIONS.containsKey(token)) {
+            isBlocked = controller.isBlockedByException(OPERATIONS.get(token));
+        } else {
+            isBlocked = controller.isBlockedByException(createDigit(token.charAt(0)));
+        }
+        return isBlocked;
+    }
+
+    /**
+     * Method creates digit or decimal separator by given char
+     * @param symbol - given char
+     * @return NumberSymbol of char
+     */
+    private static NumberSymbol createDigit(char symbol){
+
+        NumberSymbol digit;
+        if (symbol == ',') {
+            digit = new NumberSymbol(Symbol.SEPARATOR);
+        } else {
+            String string = String.valueOf(symbol);
+            digit = new NumberSymbol(Arrays.stream(Symbol.values())
+                    .filter(value -> value.getString().equals(string))
+                    .findFirst()
+                    .orElseThrow(IllegalArgumentException::new));
+        }
+        return digit;
+    }
+
+    /**
+     * Method initializes map of operations by tokens
+     * @return HashMap with operations
+     */
+    private static HashMap<String, Operation> createOperationsMap(){
+
+        HashMap<String, Operation> map = new HashMap<>();
+        map.put("+", Operations.ADD);
+        map.put("-", Operations.SUBTRACT);
+        map.put("*", Operations.MULTIPLY);
+        map.put("/", Operations.DIVIDE);
+        map.put("%", Operations.PERCENT);
+        map.put("sqrt", Operations.SQRT);
+        map.put("sqr", Operations.SQR);
+        map.put("1/x", Operations.FRACTION);
+        map.put("±", Operations.NEGATE);
+        map.put("=", Operations.EQUAL);
+        map.put("CE", Operations.CLEAR_ENTERED);
+        map.put("C", Operations.CLEAR);
+        map.put("⟵", Operations.BACKSPACE);
+        map.put("MC", Operations.MEMORY_CLEAR);
+        map.put("MS", Operations.MEMORY_STORE);
+        map.put("MR", Operations.MEMORY_RECALL);
+        map.put("M+", Operations.MEMORY_ADD);
+        map.put("M-", Operations.MEMORY_SUBTRACT);
+        return map;
+    }
+}
@@ -0,0 +1,127 @@
+package win_calculator.controller.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static win_calculator.controller.utils.ControllerUtils.DISPLAY_PATTERN;
+
+/**
+ * Test class for {@link DisplayFormatter}.
+ * Compares formatPlain(BigDecimal, boolean) and formatExponent(BigDecimal, String)
+ * with {@link DecimalFormat}, which formatted numbers before, for symbols of several locales.
+ */
+class DisplayFormatterTest {
+
+    private static final String HISTORY_PATTERN = "################.################";
+    private static final String[] SEPARATORS = {"e", "e+", ",e", ",e+"};
+    private static final Locale[] LOCALES = {
+            Locale.US, new Locale("ru", "RU"), Locale.GERMANY, Locale.FRANCE,
+            new Locale("de", "CH"), new Locale("ar", "EG"), new Locale("th", "TH", "TH")};
+    private static final int MAX_VISIBLE_DIGITS = 16;
+    private static final int MAX_EXPONENT = 10000;
+    private static final int RANDOM_COUNT = 20000;
+
+    @Test
+    void testGroupingBoundaries(){
+
+        String[] numbers = {"0", "1", "12", "123", "999", "1000", "9999", "10000", "99999", "100000", "999999",
+                "1000000", "1234567", "999999999999", "1000000000000", "9999999999999999", "-1", "-999", "-1000",
+                "-999999", "-1000000", "0.5", "-0.001", "999.999", "1000.25", "-123456.789", "1E+3", "12E+5",
+                "0.0000000000000001", "123456789012.3456"};
+        for (Locale locale : LOCALES) {
+            for (String number : numbers) {
+                testPlain(locale, new BigDecimal(number));
+            }
+        }
+    }
+
+    @Test
+    void testLongNumbers(){
+
+        String[] plainNumbers = {"1234567890123456.789", "98765432109876543210", "-98765432109876543210",
+                "1234567890.1234567891", "-0.1234567890123456", "100000000000000000000000", "1E+25"};
+        String[] exponentNumbers = {"1.2345678901234567891E+500", "-9.87654321098765432109E-9999",
+                "1.0000000000000000001E+17", "1.23456789012345678901234567890E-17", "5E+9999"};
+        for (Locale locale : LOCALES) {
+            for (String number : plainNumbers) {
+                testPlain(locale, new BigDecimal(number));
+            }
+            for (String number : exponentNumbers) {
+                for (String separator : SEPARATORS) {
+                    testExponent(locale, new BigDecimal(number), separator);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRandomNumbers(){
+
+        Random random = new Random(11);
+        for (Locale locale : LOCALES) {
+            for (int i = 0; i < RANDOM_COUNT; i++) {
+                testPlain(locale, randomNumber(random, random.nextInt(MAX_VISIBLE_DIGITS + 1)));
+                BigDecimal number = randomNumber(random, random.nextInt(2 * MAX_EXPONENT) - MAX_EXPONENT);
+                testExponent(locale, number, SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            }
+        }
+    }
+
+    /**
+     * Method asserts plain formats of given number with and without grouping
+     * @param locale - given locale of symbols
+     * @param number - given number
+     */
+    private void testPlain(Locale locale, BigDecimal number){
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        DisplayFormatter formatter = new DisplayFormatter(symbols);
+        assertEquals(new DecimalFormat(HISTORY_PATTERN, symbols).format(number), formatter.formatPlain(number, false),
+                locale + " " + number);
+        assertEquals(new DecimalFormat(DISPLAY_PATTERN, symbols).format(number), formatter.formatPlain(number, true),
+                locale + " " + number);
+    }
+
+    /**
+     * Method asserts exponent format of given number
+     * @param locale - given locale of symbols
+     * @param number - given number without trailing zeros
+     * @param separator - given exponent separator
+     */
+    private void testExponent(Locale locale, BigDecimal number, String separator){
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        DisplayFormatter formatter = new DisplayFormatter(symbols);
+        StringBuilder pattern = new StringBuilder("0.");
+        for (int i = 1; i < number.precision(); i++) {
+            pattern.append('0');
+        }
+        pattern.append("#E0");
+        symbols.setExponentSeparator(separator);
+        DecimalFormat format = new DecimalFormat(pattern.toString(), symbols);
+
+        assertEquals(format.format(number), formatter.formatExponent(number, separator), locale + " " + number);
+    }
+
+    /**
+     * Method creates random number without trailing zeros with up to 16 digits
+     * @param random - given source of random values
+     * @param scale - given scale of number before stripping of zeros
+     * @return BigDecimal random number
+     */
+    private BigDecimal randomNumber(Random random, int scale){
+
+        long unscaled = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(MAX_VISIBLE_DIGITS)));
+        if (random.nextBoolean()) {
+            unscaled = -unscaled;
+        }
+        return new BigDecimal(BigInteger.valueOf(unscaled), scale).stripTrailingZeros();
+    }
+}
@@ -0,0 +1,222 @@
+package win_calculator.controller.utils;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.operations.Number;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.OperationType;
+import win_calculator.model.operations.Operations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static win_calculator.model.utils.ModelUtils.isBinaryOperation;
+import static win_calculator.model.utils.ModelUtils.isExtraOperation;
+
+/**
+ * Test class for {@link HistoryRenderer}.
+ * Changes one history list in place the same way as {@link win_calculator.model.History} does
+ * and compares incremental rendering after each change with {@link ControllerUtils#convertHistoryToString(List)}.
+ * Shared instances of {@link Operations} and numbers make identity of committed operations repeat
+ * after clearing, changing of binary operation and removing of last number.
+ */
+class HistoryRendererTest {
+
+    private static final Number[] NUMBERS = {createNumber("1"), createNumber("25"), createNumber("-0.5"),
+            createNumber("1234567"), createNumber("0.0001")};
+    private static final Operation[] OPERATIONS = {
+            NUMBERS[0], NUMBERS[1], NUMBERS[2], NUMBERS[3], NUMBERS[4],
+            Operations.ADD, Operations.SUBTRACT, Operations.MULTIPLY, Operations.DIVIDE,
+            Operations.SQR, Operations.SQRT, Operations.FRACTION, Operations.NEGATE, Operations.PERCENT};
+    private static final Operation[] BINARY_OPERATIONS = {
+            Operations.ADD, Operations.SUBTRACT, Operations.MULTIPLY, Operations.DIVIDE};
+    private static final int RANDOM_STEPS = 20000;
+
+    private final List<Operation> history = new ArrayList<>();
+    private final HistoryRenderer renderer = new HistoryRenderer();
+
+    @Test
+    void testCommittedOperations(){
+
+        add(NUMBERS[0]);
+        add(Operations.SQR);
+        add(Operations.ADD);
+        add(NUMBERS[1]);
+        add(Operations.SQRT);
+        add(Operations.MULTIPLY);
+        add(NUMBERS[2]);
+        add(Operations.NEGATE);
+        addOrChangeBinary(Operations.DIVIDE);
+        addOrChangeBinary(Operations.SUBTRACT);
+        add(NUMBERS[3]);
+        removeLastNumberWithExtraOperations();
+        add(NUMBERS[4]);
+        add(Operations.FRACTION);
+        add(Operations.PERCENT);
+    }
+
+    @Test
+    void testBinaryOperationAtFirstPosition(){
+
+        add(Operations.ADD);
+        add(Operations.SQR);
+        add(NUMBERS[1]);
+        addOrChangeBinary(Operations.MULTIPLY);
+        add(NUMBERS[2]);
+        add(Operations.SQRT);
+        removeLast();
+        removeLast();
+        removeLast();
+        add(Operations.FRACTION);
+    }
+
+    @Test
+    void testClearAndRebuildWithSameOperations(){
+
+        List<Operation> first = Arrays.asList(NUMBERS[0], Operations.ADD, NUMBERS[1], Operations.SUBTRACT, NUMBERS[2]);
+        List<Operation> rebuilt = Arrays.asList(NUMBERS[0], Operations.MULTIPLY, NUMBERS[1], Operations.SUBTRACT,
+                NUMBERS[3]);
+
+        // rendered after each change, the same as at the controller
+        first.forEach(this::add);
+        clear();
+        rebuilt.forEach(this::add);
+
+        // rendered only before clearing and after rebuilding, renderer is cleared with history
+        history.clear();
+        renderer.clear();
+        first.forEach(history::add);
+        verify();
+        history.clear();
+        renderer.clear();
+        rebuilt.forEach(history::add);
+        verify();
+
+        // the same first number is changed at the beginning of rebuilt history
+        history.set(0, NUMBERS[4]);
+        verify();
+        history.set(0, NUMBERS[0]);
+        verify();
+    }
+
+    @Test
+    void testRandomSequences(){
+
+        Random random = new Random(9);
+        for (int i = 0; i < RANDOM_STEPS; i++) {
+            int action = random.nextInt(22);
+            if (action < 11) {
+                add(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+            } else if (action < 14) {
+                addOrChangeBinary(BINARY_OPERATIONS[random.nextInt(BINARY_OPERATIONS.length)]);
+            } else if (action < 16 && !history.isEmpty()) {
+                removeLast();
+            } else if (action < 19 && !history.isEmpty()) {
+                removeLastNumberWithExtraOperations();
+            } else if (action < 20 && !history.isEmpty() && history.get(0).getType() == OperationType.NUMBER) {
+                history.set(0, NUMBERS[random.nextInt(NUMBERS.length)]);
+                verify();
+            } else if (action == 20) {
+                clear();
+            } else if (action == 21) {
+                history.clear();
+                renderer.clear();
+                verify();
+            }
+        }
+    }
+
+    /**
+     * Method adds given operation and verifies rendering
+     * @param operation - given operation
+     */
+    private void add(Operation operation){
+
+        history.add(operation);
+        verify();
+    }
+
+    /**
+     * Method removes last operation and verifies rendering
+     */
+    private void removeLast(){
+
+        history.remove(history.size() - 1);
+        verify();
+    }
+
+    /**
+     * Method adds binary operation or changes the last one, except binary operation at the first position,
+     * and verifies rendering
+     * @param operation - given binary operation
+     */
+    private void addOrChangeBinary(Operation operation){
+
+        int lastBinaryIndex = -1;
+        for (int i = 0; i < history.size(); i++) {
+            if (isBinaryOperation(history.get(i).getType())) {
+                lastBinaryIndex = i;
+            }
+        }
+
+        if (lastBinaryIndex < 0) {
+            history.add(operation);
+        } else if (lastBinaryIndex > 0) {
+            history.set(lastBinaryIndex, operation);
+        }
+        verify();
+    }
+
+    /**
+     * Method removes last number with extra operations, negate and percent on it and verifies rendering
+     */
+    private void removeLastNumberWithExtraOperations(){
+
+        while (history.size() > 1 && isRemovedWithNumber(history.get(history.size() - 1).getType())) {
+            history.remove(history.size() - 1);
+        }
+        history.remove(history.size() - 1);
+        verify();
+    }
+
+    /**
+     * Method clears history in place without clearing of renderer and verifies rendering
+     */
+    private void clear(){
+
+        history.clear();
+        verify();
+    }
+
+    /**
+     * Method asserts incremental rendering of history with full conversion
+     */
+    private void verify(){
+
+        assertEquals(ControllerUtils.convertHistoryToString(history), renderer.render(history), history.toString());
+    }
+
+    /**
+     * Method verifies is operation of given type removed together with number
+     * @param type - given operation type
+     * @return true if it is extra operation, negate or percent
+     */
+    private boolean isRemovedWithNumber(OperationType type){
+
+        return isExtraOperation(type) || OperationType.NEGATE == type || OperationType.PERCENT == type;
+    }
+
+    /**
+     * Method creates number operation with given value
+     * @param value - given value
+     * @return number operation
+     */
+    private static Number createNumber(String value){
+
+        return new Number(DecimalNumber.valueOf(new BigDecimal(value)));
+    }
+}
@@ -0,0 +1,55 @@
+package win_calculator.controller.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static win_calculator.controller.utils.ControllerUtils.DISPLAY_PATTERN;
+
+/**
+ * Test class for {@link NumberFormatters}.
+ * Tests that cached formatters of the thread are reused while default FORMAT locale is the same
+ * and are created again with separators of the new locale after it is changed.
+ */
+class NumberFormattersTest {
+
+    private static final BigDecimal NUMBER = new BigDecimal("1234.5");
+
+    @Test
+    void testDefaultLocaleChange(){
+
+        Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            DisplayFormatter displayFormatter = NumberFormatters.getDisplayFormatter();
+            assertSame(displayFormatter, NumberFormatters.getDisplayFormatter());
+            assertSame(NumberFormatters.getFormatter(DISPLAY_PATTERN, "e"),
+                    NumberFormatters.getFormatter(DISPLAY_PATTERN, "e"));
+            test("1,234.5", "1.2345e3", "1,234.50");
+
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertNotSame(displayFormatter, NumberFormatters.getDisplayFormatter());
+            test("1.234,5", "1,2345e3", "1.234,50");
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+    }
+
+    /**
+     * Method asserts formatting of the number by cached formatters with expected strings
+     *
+     * @param plain    - expected string of display formatter
+     * @param exponent - expected string of formatter with exponent separator
+     * @param input    - expected string of input formatter with two fraction digits
+     */
+    private void test(String plain, String exponent, String input){
+
+        assertEquals(plain, NumberFormatters.getDisplayFormatter().formatPlain(NUMBER, true));
+        assertEquals(exponent, NumberFormatters.getFormatter("0.####E0", "e").format(NUMBER));
+        assertEquals(input, NumberFormatters.getInputFormatter(DISPLAY_PATTERN, 2).format(NUMBER));
+    }
+}
@@ -0,0 +1,130 @@
+package win_calculator.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for {@link BatchEvaluator}.
+ * Tests result lines with OK, type of error, INVALID and FAILED status
+ * and writing of results while scripts are read from the Reader.
+ */
+class BatchEvaluatorTest {
+
+    private static final String SEPARATOR = String.valueOf(new DecimalFormatSymbols().getDecimalSeparator());
+    private static final String FAILING_SCRIPT = "fail";
+
+    @Test
+    void testOkStatus(){
+
+        BatchEvaluator evaluator = new BatchEvaluator();
+        assertEquals("5\t\tOK", evaluator.evaluateScript("2 + 3 ="));
+        assertEquals("13" + SEPARATOR + "5\t\tOK", evaluator.evaluateScript("12,5 + 1 ="));
+        assertEquals("7\t7  +  \tOK", evaluator.evaluateScript("7 +"));
+        assertEquals("0\t\tOK", evaluator.evaluateScript(""));
+    }
+
+    @Test
+    void testExceptionTypeStatus(){
+
+        BatchEvaluator evaluator = new BatchEvaluator();
+        assertEquals("Cannot divide by zero\t1  ÷  \tDIVIDE_BY_ZERO", evaluator.evaluateScript("1 / 0 ="));
+        assertEquals("Result is undefined\t0  ÷  \tZERO_DIVIDE_BY_ZERO", evaluator.evaluateScript("0 / 0 ="));
+        assertEquals("Invalid input\t√( -9 )\tNEGATIVE_VALUE_FOR_SQRT", evaluator.evaluateScript("9 ± sqrt"));
+        assertEquals("Overflow", evaluator.evaluateScript("1000000000000000 sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr")
+                .split("\t")[0]);
+        assertEquals("OVERFLOW", evaluator.evaluateScript("1000000000000000 sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr")
+                .split("\t")[2]);
+    }
+
+    @Test
+    void testInvalidStatus(){
+
+        SessionPool pool = new SessionPool(1);
+        BatchEvaluator evaluator = new BatchEvaluator(pool);
+        assertEquals("\t\tINVALID: Unknown token: foo", evaluator.evaluateScript("2 foo ="));
+        assertEquals("\t\tINVALID: Unknown token: 1,2,3", evaluator.evaluateScript("1,2,3"));
+        assertEquals(1, pool.getIdleCount());
+        assertEquals("2\t\tOK", evaluator.evaluateScript("2"));
+    }
+
+    @Test
+    void testFailedStatus(){
+
+        SessionPool pool = new FailingSessionPool();
+        BatchEvaluator evaluator = new BatchEvaluator(pool);
+        assertEquals("\t\tFAILED: java.lang.IllegalStateException", evaluator.evaluateScript(FAILING_SCRIPT));
+        assertEquals(0, pool.getIdleCount());
+        assertEquals("4\t\tOK", evaluator.evaluateScript("2 * 2 ="));
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void testStreaming() throws IOException {
+
+        List<String> scripts = Arrays.asList("2 + 3 =", "1 / 0 =", "", "2 foo", FAILING_SCRIPT, "2 sqr");
+        StringWriter writer = new StringWriter();
+        List<Integer> writtenLines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", scripts))) {
+            @Override
+            public String readLine() throws IOException {
+                writtenLines.add(countLines(writer.toString()));
+                return super.readLine();
+            }
+        };
+
+        long count = new BatchEvaluator(new FailingSessionPool()).evaluate(reader, writer);
+
+        assertEquals(scripts.size(), count);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), writtenLines);
+        String[] lines = writer.toString().split(System.lineSeparator(), -1);
+        assertEquals(Arrays.asList("5\t\tOK", "Cannot divide by zero\t1  ÷  \tDIVIDE_BY_ZERO", "0\t\tOK",
+                "\t\tINVALID: Unknown token: foo", "\t\tFAILED: java.lang.IllegalStateException", "4\tsqr( 2 )\tOK", ""),
+                Arrays.asList(lines));
+    }
+
+    /**
+     * Method counts written lines
+     * @param text - given written text
+     * @return count of line separators
+     */
+    private int countLines(String text){
+
+        return text.split(System.lineSeparator(), -1).length - 1;
+    }
+
+    /**
+     * Pool of sessions, which throw unexpected exception for the failing script.
+     */
+    private static class FailingSessionPool extends SessionPool {
+
+        private FailingSessionPool(){
+
+            super(1);
+        }
+
+        @Override
+        public CalcEngine acquire(){
+
+            return new CalcEngine() {
+                @Override
+                public EngineResult evaluate(String expression){
+
+                    if (FAILING_SCRIPT.equals(expression)) {
+                        throw new IllegalStateException();
+                    }
+                    return super.evaluate(expression);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package win_calculator.engine;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.model.exceptions.ExceptionType;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for headless {@link CalcEngine}.
+ * Tests results of keystrokes and expressions, rejecting of unknown tokens,
+ * types of errors at {@link EngineResult} and splitting of number tokens by {@link TokenParser}.
+ */
+class CalcEngineTest {
+
+    private static final String SEPARATOR = String.valueOf(new DecimalFormatSymbols().getDecimalSeparator());
+    private static final String SQR_SCRIPT = "1000000000000000 sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr";
+
+    private final CalcEngine engine = new CalcEngine();
+
+    @Test
+    void testPress(){
+
+        test(engine.press("2"), "2", "");
+        test(engine.press("+"), "2", "2  +  ");
+        test(engine.press("3"), "3", "2  +  ");
+        test(engine.press("="), "5", "");
+        test(engine.press("sqr"), "25", "sqr( 5 )");
+        test(engine.press("C"), "0", "");
+        assertSame(engine.getLastResult(), engine.getLastResult());
+    }
+
+    @Test
+    void testEvaluate(){
+
+        test(engine.evaluate("2 + 3 ="), "5", "");
+        test(engine.evaluate("* 2 ="), "10", "");
+        test(engine.evaluate("   "), "10", "");
+        test(engine.evaluate("MS C MR + 1 ="), "11", "");
+        test(engine.evaluate("C 10 sqrt 1/x ±"), "-0" + SEPARATOR + "3162277660168379", "negate( 1/( √( 10 ) ) )");
+
+        engine.reset();
+        test(engine.getLastResult(), "0", "");
+        test(engine.evaluate("MR"), "0", "");
+    }
+
+    @Test
+    void testNumberTokens(){
+
+        assertEquals(Arrays.asList("1", "2", ",", "5", "+", "0", ".", "5"), TokenParser.parse(" 12,5  +\t0.5 "));
+        assertEquals(Arrays.asList(",", "5", "*", "3", ","), TokenParser.parse(",5 * 3,"));
+        assertEquals(Arrays.asList("1/x", "sqrt", "sqr"), TokenParser.parse("1/x sqrt sqr"));
+        assertEquals(Collections.emptyList(), TokenParser.parse(""));
+
+        test(engine.evaluate("12,5"), "12" + SEPARATOR + "5", "");
+        test(engine.evaluate("+ 0.5 ="), "13", "");
+        test(engine.evaluate(",5 * 4 ="), "2", "");
+    }
+
+    @Test
+    void testUnknownToken(){
+
+        UnknownTokenException exception = assertThrows(UnknownTokenException.class, () -> engine.press("x"));
+        assertEquals("x", exception.getToken());
+
+        engine.evaluate("7 +");
+        exception = assertThrows(UnknownTokenException.class, () -> engine.evaluate("2 foo ="));
+        assertEquals("foo", exception.getToken());
+        test(engine.getLastResult(), "7", "7  +  ");
+
+        assertEquals("12,5,3", assertThrows(UnknownTokenException.class, () -> engine.evaluate("12,5,3")).getToken());
+        assertEquals("1..2", assertThrows(UnknownTokenException.class, () -> engine.evaluate("1..2")).getToken());
+        assertEquals("sqrt(", assertThrows(UnknownTokenException.class, () -> engine.evaluate("9 sqrt(")).getToken());
+        test(engine.getLastResult(), "7", "7  +  ");
+    }
+
+    @Test
+    void testExceptionTypes(){
+
+        testException("1 / 0 =", ExceptionType.DIVIDE_BY_ZERO, "Cannot divide by zero");
+        testException("0 / 0 =", ExceptionType.ZERO_DIVIDE_BY_ZERO, "Result is undefined");
+        testException("9 ± sqrt", ExceptionType.NEGATIVE_VALUE_FOR_SQRT, "Invalid input");
+        testException("0 1/x", ExceptionType.DIVIDE_BY_ZERO, "Cannot divide by zero");
+        testException(SQR_SCRIPT, ExceptionType.OVERFLOW, "Overflow");
+
+        EngineResult result = engine.evaluate("2 + 3 =");
+        assertNull(result.getExceptionType());
+        assertFalse(result.isError());
+    }
+
+    /**
+     * Method asserts error of given expression at new session and clearing of it
+     * @param expression - given expression
+     * @param exceptionType - expected type of error
+     * @param display - expected message at display
+     */
+    private void testException(String expression, ExceptionType exceptionType, String display){
+
+        engine.reset();
+        EngineResult result = engine.evaluate(expression);
+        assertEquals(exceptionType, result.getExceptionType());
+        assertTrue(result.isError());
+        assertEquals(display, result.getDisplay());
+
+        result = engine.evaluate("C");
+        assertNull(result.getExceptionType());
+        assertEquals("0", result.getDisplay());
+    }
+
+    /**
+     * Method asserts texts of given result
+     * @param result - given result
+     * @param display - expected text of display
+     * @param history - expected text of history
+     */
+    private void test(EngineResult result, String display, String history){
+
+        assertEquals(display, result.getDisplay());
+        assertEquals(history, result.getHistory());
+    }
+}
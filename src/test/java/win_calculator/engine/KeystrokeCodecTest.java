@@ -0,0 +1,189 @@
+package win_calculator.engine;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.controller.entities.NumberSymbol;
+import win_calculator.model.operations.Operation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link KeystrokeCodec}.
+ * Tests that decoded scripts press the same keystrokes and give the same results as typed scripts,
+ * short and long numbers, every operation code and rejecting of unknown codes, broken varints and numbers.
+ */
+class KeystrokeCodecTest {
+
+    private static final String[] OPERATIONS = {"+", "-", "*", "/", "%", "sqrt", "sqr", "1/x", "±", "=", "CE", "C",
+            "⟵", "MC", "MS", "MR", "M+", "M-"};
+
+    @Test
+    void testNumbers(){
+
+        testRoundTrip("12,5");
+        testRoundTrip(",5");
+        testRoundTrip("5,");
+        testRoundTrip(",");
+        testRoundTrip("0.5 + 1.25 =");
+        testRoundTrip("007");
+        testRoundTrip("0,0100");
+        testRoundTrip("123456");
+        testRoundTrip("1234567,");
+        testRoundTrip(",1234567");
+        testRoundTrip("000000000000000000");
+        testRoundTrip("123456789012345678");
+        testRoundTrip("999999999999999999");
+        testRoundTrip("1234567890123456789");
+        testRoundTrip("12345678901234567,8");
+        testRoundTrip("123456789012345678,");
+        testRoundTrip(",123456789012345678");
+        testRoundTrip("9999999999999999999 + 1 =");
+    }
+
+    @Test
+    void testNumberForm(){
+
+        assertEquals(3, KeystrokeCodec.encode("12").length);
+        assertEquals(KeystrokeCodec.NUMBER_CODE, KeystrokeCodec.encode("123456789012345678")[0]);
+        assertEquals(KeystrokeCodec.NUMBER_CODE, KeystrokeCodec.encode("00000000,0000000000")[0]);
+        assertEquals(20, KeystrokeCodec.encode("1234567890123456789").length);
+    }
+
+    @Test
+    void testOperations(){
+
+        for (String operation : OPERATIONS) {
+            testRoundTrip("9 " + operation);
+            testRoundTrip("12 + 3 " + operation + " 4 =");
+            testRoundTrip("MS 5 " + operation + " " + operation + " MR");
+        }
+
+        testRoundTrip("");
+        testRoundTrip("2 sqrt sqr - 2 =");
+        testRoundTrip("0 1/x");
+        testRoundTrip("5 M+ 3 M- MR C MR MC MR");
+    }
+
+    @Test
+    void testSeveralScripts(){
+
+        String[] scripts = {"2 + 3 =", "", "7 / 0 =", "1,5 sqr", "4 +"};
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        for (String script : scripts) {
+            buffer.put(KeystrokeCodec.encode(script));
+        }
+        buffer.flip();
+
+        List<String> results = new ArrayList<>();
+        assertEquals(scripts.length, KeystrokeCodec.decode(buffer, new CalcEngine(), result -> results.add(result.toString())));
+
+        List<String> expected = new ArrayList<>();
+        for (String script : scripts) {
+            expected.add(new CalcEngine().evaluate(script).toString());
+        }
+        assertEquals(expected, results);
+    }
+
+    @Test
+    void testInvalidInput(){
+
+        testInvalid(0x50, KeystrokeCodec.END_OF_SCRIPT_CODE);
+        testInvalid(-1, KeystrokeCodec.END_OF_SCRIPT_CODE);
+        testInvalid(1, 2);
+        testInvalid(KeystrokeCodec.NUMBER_CODE);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 0x80);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 41);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01,
+                0x01, KeystrokeCodec.END_OF_SCRIPT_CODE);
+
+        // 19 digits, separator after the second digit of one digit number, one digit with value 10, value without digits
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 0x80 | 380 & 0x7F, 380 >>> 7, 1, KeystrokeCodec.END_OF_SCRIPT_CODE);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 23, 1, KeystrokeCodec.END_OF_SCRIPT_CODE);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 20, 10, KeystrokeCodec.END_OF_SCRIPT_CODE);
+        testInvalid(KeystrokeCodec.NUMBER_CODE, 0, 1, KeystrokeCodec.END_OF_SCRIPT_CODE);
+
+        assertEquals(1, KeystrokeCodec.decode(ByteBuffer.wrap(bytes(KeystrokeCodec.NUMBER_CODE, 20, 9,
+                KeystrokeCodec.END_OF_SCRIPT_CODE)), new CalcEngine(), result -> assertEquals("9", result.getDisplay())));
+    }
+
+    @Test
+    void testUnknownToken(){
+
+        assertThrows(UnknownTokenException.class, () -> KeystrokeCodec.encode("2 + x ="));
+        assertThrows(UnknownTokenException.class, () -> KeystrokeCodec.encode("1,2,3"));
+    }
+
+    /**
+     * Method encodes given script, decodes it and compares pressed keystrokes and result
+     * with keystrokes and result of the typed script
+     *
+     * @param script - given script
+     */
+    private void testRoundTrip(String script){
+
+        RecordingEngine typed = new RecordingEngine();
+        String expected = typed.evaluate(script).toString();
+
+        byte[] encoded = KeystrokeCodec.encode(script);
+        assertEquals(KeystrokeCodec.END_OF_SCRIPT_CODE, encoded[encoded.length - 1]);
+
+        RecordingEngine decoded = new RecordingEngine();
+        List<String> results = new ArrayList<>();
+        assertEquals(1, KeystrokeCodec.decode(ByteBuffer.wrap(encoded), decoded, result -> results.add(result.toString())));
+        assertEquals(typed.keystrokes, decoded.keystrokes, script);
+        assertEquals(Arrays.asList(expected), results, script);
+    }
+
+    /**
+     * Method verifies that decoding of given bytes throws IllegalArgumentException
+     *
+     * @param codes - given bytes
+     */
+    private void testInvalid(int... codes){
+
+        byte[] encoded = bytes(codes);
+        assertThrows(IllegalArgumentException.class, () -> KeystrokeCodec.decode(ByteBuffer.wrap(encoded),
+                new CalcEngine(), result -> {}), Arrays.toString(encoded));
+    }
+
+    /**
+     * Method converts given ints to the bytes
+     *
+     * @param codes - given ints
+     * @return array of bytes
+     */
+    private byte[] bytes(int... codes){
+
+        byte[] result = new byte[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            result[i] = (byte) codes[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Engine, which records pressed digits and operations
+     */
+    private static class RecordingEngine extends CalcEngine {
+
+        private final List<Object> keystrokes = new ArrayList<>();
+
+        @Override
+        void pressDigit(NumberSymbol digit) {
+            keystrokes.add(digit.getSymbol());
+            super.pressDigit(digit);
+        }
+
+        @Override
+        void pressOperation(Operation operation) {
+            keystrokes.add(operation);
+            super.pressOperation(operation);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package win_calculator.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for {@link ParallelBatchEvaluator}.
+ * Compares ordered and unordered output of several chunks of random scripts with output of {@link BatchEvaluator}.
+ */
+class ParallelBatchEvaluatorTest {
+
+    private static final String[] TOKENS = {"0", "1", "2", "5", "9", "12,5", ",", "+", "-", "*", "/", "%", "sqrt",
+            "sqr", "1/x", "±", "=", "CE", "C", "⟵", "MC", "MS", "MR", "M+", "M-", "x"};
+    private static final int SCRIPTS_COUNT = 256 * 7 + 100;
+    private static final int MAX_SCRIPT_TOKENS = 12;
+    private static final int PARALLELISM = 4;
+
+    private final String input = createScripts(new Random(3));
+
+    @Test
+    void testOrderedOutput() throws IOException {
+
+        String expected = evaluate(new BatchEvaluator()::evaluate);
+        ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator(PARALLELISM, true);
+        try {
+            assertEquals(expected, evaluate(evaluator::evaluate));
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    void testUnorderedOutput() throws IOException {
+
+        String[] expectedLines = evaluate(new BatchEvaluator()::evaluate).split(System.lineSeparator());
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < expectedLines.length; i++) {
+            expected.add((i + 1) + "\t" + expectedLines[i]);
+        }
+
+        ParallelBatchEvaluator evaluator = new ParallelBatchEvaluator(PARALLELISM, false);
+        try {
+            String[] lines = evaluate(evaluator::evaluate).split(System.lineSeparator());
+            assertEquals(SCRIPTS_COUNT, lines.length);
+            assertEquals(expected, new HashSet<>(Arrays.asList(lines)));
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    /**
+     * Method evaluates input scripts by given evaluator
+     * @param evaluator - given method of evaluator
+     * @return written output
+     * @throws IOException from evaluator
+     */
+    private String evaluate(Evaluation evaluator) throws IOException {
+
+        StringWriter writer = new StringWriter();
+        long count = evaluator.evaluate(new BufferedReader(new StringReader(input)), writer);
+        assertEquals(SCRIPTS_COUNT, count);
+        return writer.toString();
+    }
+
+    /**
+     * Method creates random scripts, one script per line
+     * @param random - given source of random values
+     * @return String of scripts
+     */
+    private static String createScripts(Random random){
+
+        StringBuilder scripts = new StringBuilder();
+        for (int i = 0; i < SCRIPTS_COUNT; i++) {
+            int tokensCount = random.nextInt(MAX_SCRIPT_TOKENS);
+            for (int j = 0; j < tokensCount; j++) {
+                scripts.append(TOKENS[random.nextInt(TOKENS.length)]).append(' ');
+            }
+            scripts.append('\n');
+        }
+        return scripts.toString();
+    }
+
+    /**
+     * Method of batch evaluation from reader to writer.
+     */
+    private interface Evaluation {
+
+        long evaluate(BufferedReader reader, StringWriter writer) throws IOException;
+    }
+}
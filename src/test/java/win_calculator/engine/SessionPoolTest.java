@@ -0,0 +1,152 @@
+package win_calculator.engine;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.model.ExtraOperationCache;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for {@link SessionPool}.
+ * Runs scripts on the reused session of pool and on the new {@link CalcEngine}
+ * and compares results of each keystroke, so reset session has the same state as the new one.
+ */
+class SessionPoolTest {
+
+    private static final String[] TOKENS = {"0", "1", "2", "5", "9", ",", "+", "-", "*", "/", "%", "sqrt", "sqr",
+            "1/x", "±", "=", "CE", "C", "⟵", "MC", "MS", "MR", "M+", "M-"};
+    private static final String[] SCRIPTS = {"2 + 3 = MS", "1 / 0 =", "0 / 0 = 5", "9 ± sqrt", "MR M+ MR",
+            "2 + 3 * 4 = = =", "1000000000000000 sqr sqr sqr sqr sqr sqr sqr sqr sqr sqr", "5 sqr sqrt 1/x 1/x",
+            "12,5 % + 7 ⟵ 8 CE 3 =", "2 + 3 + sqr - C 4 +", "MC MR 1 +"};
+    private static final int RANDOM_SCRIPTS = 3000;
+    private static final String FAILED = "FAILED: ";
+    private static final int MAX_SCRIPT_TOKENS = 16;
+
+    @Test
+    void testReleasedSessionIsReused(){
+
+        SessionPool pool = new SessionPool(1);
+        CalcEngine session = pool.acquire();
+        session.evaluate("2 + 3 = MS");
+        pool.release(session);
+        assertEquals(1, pool.getIdleCount());
+
+        assertSame(session, pool.acquire());
+        assertEquals(0, pool.getIdleCount());
+        pool.release(new CalcEngine());
+        pool.release(new CalcEngine());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void testResetSessionEqualsNewSession(){
+
+        SessionPool pool = new SessionPool(1);
+        for (String first : SCRIPTS) {
+            for (String second : SCRIPTS) {
+                testReusedSession(pool, first, second);
+            }
+        }
+    }
+
+    @Test
+    void testRandomScripts(){
+
+        Random random = new Random(5);
+        SessionPool pool = new SessionPool(1, new ExtraOperationCache(64));
+        String previous = createScript(random);
+        for (int i = 0; i < RANDOM_SCRIPTS; i++) {
+            String script = createScript(random);
+            testReusedSession(pool, previous, script);
+            previous = script;
+        }
+    }
+
+    /**
+     * Method runs first script on the session of pool, then second script on the same reset session
+     * and on the new session, and asserts results of each keystroke
+     * Session with unexpected exception isn't released, as at the {@link BatchEvaluator}
+     * @param pool - given pool with one session
+     * @param first - given script of the previous session
+     * @param second - given script of the compared sessions
+     */
+    private void testReusedSession(SessionPool pool, String first, String second){
+
+        CalcEngine previousSession = pool.acquire();
+        if (isFailed(press(previousSession, first))) {
+            return;
+        }
+        pool.release(previousSession);
+
+        CalcEngine reusedSession = pool.acquire();
+        assertSame(previousSession, reusedSession);
+        CalcEngine newSession = new CalcEngine();
+        assertEquals(describe(newSession.getLastResult()), describe(reusedSession.getLastResult()), first);
+
+        boolean isFailed = false;
+        for (String token : TokenParser.parse(second)) {
+            if (!isFailed) {
+                String expected = press(newSession, token);
+                assertEquals(expected, press(reusedSession, token), first + " | " + second);
+                isFailed = isFailed(expected);
+            }
+        }
+        if (!isFailed) {
+            pool.release(reusedSession);
+        }
+    }
+
+    /**
+     * Method evaluates given tokens at given session
+     * @param session - given session
+     * @param tokens - given tokens
+     * @return description of result or class of unexpected exception
+     */
+    private String press(CalcEngine session, String tokens){
+
+        String result;
+        try {
+            result = describe(session.evaluate(tokens));
+        } catch (RuntimeException e) {
+            result = FAILED + e.getClass().getName();
+        }
+        return result;
+    }
+
+    /**
+     * Method verifies is given description of unexpected exception
+     * @param result - given description of result
+     * @return true if session failed
+     */
+    private boolean isFailed(String result){
+
+        return result.startsWith(FAILED);
+    }
+
+    /**
+     * Method describes given result
+     * @param result - given result
+     * @return String with display, history and type of error
+     */
+    private String describe(EngineResult result){
+
+        return result.getDisplay() + "|" + result.getHistory() + "|" + result.getExceptionType();
+    }
+
+    /**
+     * Method creates random script
+     * @param random - given source of random values
+     * @return String of tokens separated by spaces
+     */
+    private String createScript(Random random){
+
+        StringBuilder script = new StringBuilder();
+        int tokensCount = random.nextInt(MAX_SCRIPT_TOKENS);
+        for (int i = 0; i < tokensCount; i++) {
+            script.append(TOKENS[random.nextInt(TOKENS.length)]).append(' ');
+        }
+        return script.toString();
+    }
+}
@@ -0,0 +1,325 @@
+package win_calculator.model;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.model.exceptions.ExceptionType;
+import win_calculator.model.exceptions.OperationException;
+import win_calculator.model.numbers.CalcNumber;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.operations.OperationType;
+import win_calculator.model.operations.extra_operations.ExtraOperation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ExtraOperationCache}.
+ * Tests least recently used eviction inside one stripe, independence of stripes,
+ * counters of hits, misses and evictions, capacity which isn't power of two, not stored failures and concurrent access.
+ * Stripes of numbers are found by eviction at the cache with one result per stripe.
+ */
+class ExtraOperationCacheTest {
+
+    private static final int STRIPES = 16;
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 20000;
+    private static final int CONCURRENT_KEYS = 100;
+
+    private final CountingOperation operation = new CountingOperation();
+
+    @Test
+    void testLeastRecentlyUsedEviction() throws OperationException {
+
+        List<CalcNumber> sameStripe = findSameStripe(number(1), 3);
+        CalcNumber first = sameStripe.get(0);
+        CalcNumber second = sameStripe.get(1);
+        CalcNumber third = sameStripe.get(2);
+        ExtraOperationCache cache = new ExtraOperationCache(STRIPES * 2);
+
+        cache.calculate(operation, first);
+        cache.calculate(operation, second);
+        cache.calculate(operation, first);
+        cache.calculate(operation, third);
+        test(cache, 1, 3, 1, 2);
+
+        // second is the least recently used after access to first
+        int calculations = operation.getCount();
+        cache.calculate(operation, first);
+        cache.calculate(operation, third);
+        assertEquals(calculations, operation.getCount());
+        cache.calculate(operation, second);
+        assertEquals(calculations + 1, operation.getCount());
+        test(cache, 3, 4, 2, 2);
+    }
+
+    @Test
+    void testIndependentStripes() throws OperationException {
+
+        CalcNumber first = number(1);
+        CalcNumber second = findSameStripe(first, 2).get(1);
+        CalcNumber other = findOtherStripe(first);
+        ExtraOperationCache cache = new ExtraOperationCache(STRIPES);
+
+        cache.calculate(operation, other);
+        cache.calculate(operation, first);
+        cache.calculate(operation, other);
+        test(cache, 1, 2, 0, 2);
+
+        cache.calculate(operation, second);
+        cache.calculate(operation, other);
+        test(cache, 2, 3, 1, 2);
+    }
+
+    @Test
+    void testCounters() throws OperationException {
+
+        ExtraOperationCache cache = new ExtraOperationCache(64);
+        assertEquals(64, cache.getCapacity());
+        test(cache, 0, 0, 0, 0);
+
+        CalcNumber result = cache.calculate(operation, number(12));
+        assertEquals(number(144), result);
+        assertSame(result, cache.calculate(operation, number(12)));
+        assertSame(result, cache.calculate(operation, DecimalNumber.valueOf(new BigDecimal("12"))));
+        assertNotSame(result, cache.calculate(operation, DecimalNumber.valueOf(new BigDecimal("12.0"))));
+        test(cache, 2, 2, 0, 2);
+
+        CountingOperation otherOperation = new CountingOperation();
+        cache.calculate(otherOperation, number(12));
+        assertEquals(1, otherOperation.getCount());
+        test(cache, 2, 3, 0, 3);
+
+        cache.clear();
+        test(cache, 2, 3, 0, 0);
+        cache.calculate(operation, number(12));
+        test(cache, 2, 4, 0, 1);
+    }
+
+    @Test
+    void testFailures(){
+
+        ExtraOperationCache cache = new ExtraOperationCache(8);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(OperationException.class, () -> cache.calculate(operation, number(-1)));
+        }
+        assertEquals(3, operation.getCount());
+        test(cache, 0, 3, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new ExtraOperationCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new ExtraOperationCache(-1));
+    }
+
+    @Test
+    void testEvictionCount() throws OperationException {
+
+        ExtraOperationCache cache = new ExtraOperationCache(STRIPES);
+        for (int i = 0; i < 1000; i++) {
+            cache.calculate(operation, number(i));
+        }
+
+        assertTrue(cache.getSize() <= STRIPES);
+        test(cache, 0, 1000, 1000 - cache.getSize(), cache.getSize());
+    }
+
+    @Test
+    void testNotPowerOfTwoCapacity() throws OperationException {
+
+        for (int capacity : new int[]{1, 3, 17, 100, 1000}) {
+            ExtraOperationCache cache = new ExtraOperationCache(capacity);
+            int count = capacity * 20;
+            for (int i = 0; i < count; i++) {
+                cache.calculate(operation, number(i));
+            }
+
+            assertEquals(capacity, cache.getCapacity());
+            test(cache, 0, count, count - capacity, capacity);
+            operation.reset();
+        }
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+
+        ExtraOperationCache cache = new ExtraOperationCache(128);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> calculateConcurrently(cache, start, seed)));
+            }
+            start.countDown();
+
+            int wrongResults = 0;
+            for (Future<Integer> future : futures) {
+                wrongResults += future.get();
+            }
+            assertEquals(0, wrongResults);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        long calls = (long) THREADS * CALLS_PER_THREAD;
+        assertEquals(calls, cache.getHitCount() + cache.getMissCount());
+        assertEquals(cache.getMissCount(), operation.getCount());
+        assertTrue(cache.getSize() <= cache.getCapacity());
+        assertTrue(cache.getMissCount() >= cache.getSize() + cache.getEvictionCount());
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    /**
+     * Method calculates results of keys in order of given seed and counts wrong results
+     *
+     * @param cache - given shared cache
+     * @param start - given latch of simultaneous start
+     * @param seed  - given seed of order of keys
+     * @return count of wrong results
+     * @throws Exception if thread is interrupted or calculation fails
+     */
+    private int calculateConcurrently(ExtraOperationCache cache, CountDownLatch start, int seed) throws Exception {
+
+        start.await();
+        int wrongResults = 0;
+        for (int i = 0; i < CALLS_PER_THREAD; i++) {
+            long value = (i * 7L + seed * 13L) % CONCURRENT_KEYS;
+            if (!number(value * value).equals(cache.calculate(operation, number(value)))) {
+                wrongResults++;
+            }
+        }
+
+        return wrongResults;
+    }
+
+    /**
+     * Method finds given count of numbers, starting from given number, which are at the same stripe
+     *
+     * @param first - given first number
+     * @param count - given count of numbers
+     * @return numbers at the stripe of given number
+     * @throws OperationException never, operation fails only for negative numbers
+     */
+    private List<CalcNumber> findSameStripe(CalcNumber first, int count) throws OperationException {
+
+        List<CalcNumber> numbers = new ArrayList<>();
+        numbers.add(first);
+        for (int i = 2; numbers.size() < count; i++) {
+
+            if (isEvicting(first, number(i))) {
+                numbers.add(number(i));
+            }
+
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Method finds number, which is at the other stripe than given number
+     *
+     * @param first - given number
+     * @return number at the other stripe
+     * @throws OperationException never, operation fails only for negative numbers
+     */
+    private CalcNumber findOtherStripe(CalcNumber first) throws OperationException {
+
+        int i = 2;
+        while (isEvicting(first, number(i))) {
+            i++;
+        }
+
+        return number(i);
+    }
+
+    /**
+     * Method verifies does result of given second number evict result of given first number
+     * from the cache with one result per stripe
+     *
+     * @param first  - given first number
+     * @param second - given second number
+     * @return true if numbers are at the same stripe
+     * @throws OperationException never, operation fails only for negative numbers
+     */
+    private boolean isEvicting(CalcNumber first, CalcNumber second) throws OperationException {
+
+        ExtraOperationCache cache = new ExtraOperationCache(STRIPES);
+        cache.calculate(operation, first);
+        cache.calculate(operation, second);
+        long evictions = cache.getEvictionCount();
+        operation.reset();
+
+        return evictions == 1;
+    }
+
+    /**
+     * Method asserts counters and size of given cache with expected data
+     *
+     * @param cache     - given cache
+     * @param hits      - expected count of hits
+     * @param misses    - expected count of misses
+     * @param evictions - expected count of evictions
+     * @param size      - expected count of stored results
+     */
+    private void test(ExtraOperationCache cache, long hits, long misses, long evictions, int size){
+
+        assertEquals(hits, cache.getHitCount());
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(evictions, cache.getEvictionCount());
+        assertEquals(size, cache.getSize());
+    }
+
+    /**
+     * Method creates number with given value
+     *
+     * @param value - given value
+     * @return number
+     */
+    private static CalcNumber number(long value){
+
+        return DecimalNumber.valueOf(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Extra operation, which squares not negative number, fails for negative one and counts calculations
+     */
+    private static class CountingOperation implements ExtraOperation {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public CalcNumber calculate(CalcNumber number) throws OperationException {
+            count.incrementAndGet();
+            if (number.signum() < 0) {
+                throw new OperationException(ExceptionType.NEGATIVE_VALUE_FOR_SQRT);
+            }
+
+            return number.multiply(number);
+        }
+
+        @Override
+        public OperationType getType() {
+            return OperationType.SQR;
+        }
+
+        private int getCount() {
+            return count.get();
+        }
+
+        private void reset() {
+            count.set(0);
+        }
+    }
+}
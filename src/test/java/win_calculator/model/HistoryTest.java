@@ -0,0 +1,269 @@
+package win_calculator.model;
+
+import org.junit.jupiter.api.Test;
+import win_calculator.model.numbers.DecimalNumber;
+import win_calculator.model.operations.Number;
+import win_calculator.model.operations.Operation;
+import win_calculator.model.operations.OperationType;
+import win_calculator.model.operations.Operations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static win_calculator.model.utils.ModelUtils.isBinaryOperation;
+import static win_calculator.model.utils.ModelUtils.isExtraOperation;
+
+/**
+ * Test class for {@link History}.
+ * Applies mixed sequences of changes to the history and to the plain list of expected operations,
+ * then compares operations and answers of isContainingGivenOperationType(OperationType),
+ * which use kept indexes of binary operations and counts of segment, with linear scan of expected operations.
+ */
+class HistoryTest {
+
+    private static final Number NUMBER = new Number(DecimalNumber.valueOf(BigDecimal.ONE));
+    private static final Operation[] OPERATIONS = {
+            NUMBER, Operations.ADD, Operations.SUBTRACT, Operations.MULTIPLY, Operations.DIVIDE,
+            Operations.SQR, Operations.SQRT, Operations.FRACTION, Operations.NEGATE, Operations.PERCENT};
+    private static final Operation[] BINARY_OPERATIONS = {
+            Operations.ADD, Operations.SUBTRACT, Operations.MULTIPLY, Operations.DIVIDE};
+    private static final int RANDOM_STEPS = 20000;
+
+    private final History history = new History();
+    private final List<Operation> expected = new ArrayList<>();
+
+    @Test
+    void testAddAndRemove(){
+
+        add(NUMBER);
+        add(Operations.SQR);
+        add(Operations.ADD);
+        add(NUMBER);
+        add(Operations.SQRT);
+        add(Operations.NEGATE);
+        add(Operations.MULTIPLY);
+        add(NUMBER);
+        add(Operations.FRACTION);
+        removeLast();
+        removeLast();
+        removeLast();
+        removeLast();
+        add(Operations.DIVIDE);
+        add(Operations.PERCENT);
+    }
+
+    @Test
+    void testBinaryOperationAtFirstPosition(){
+
+        add(Operations.ADD);
+        add(Operations.SQR);
+        addOrChangeBinary(Operations.MULTIPLY);
+        add(NUMBER);
+        add(Operations.SUBTRACT);
+        addOrChangeBinary(Operations.DIVIDE);
+        removeLast();
+        removeLast();
+        removeLast();
+    }
+
+    @Test
+    void testAddOrChangeBinaryOperation(){
+
+        addOrChangeBinary(Operations.ADD);
+        clear();
+        add(NUMBER);
+        addOrChangeBinary(Operations.ADD);
+        addOrChangeBinary(Operations.SUBTRACT);
+        add(NUMBER);
+        add(Operations.SQRT);
+        addOrChangeBinary(Operations.MULTIPLY);
+        removeLastNumberWithExtraOperations();
+        add(NUMBER);
+        add(Operations.DIVIDE);
+        addOrChangeBinary(Operations.ADD);
+        removeLast();
+    }
+
+    @Test
+    void testRemoveLastNumberWithExtraOperations(){
+
+        add(NUMBER);
+        add(Operations.SQR);
+        add(Operations.SQRT);
+        add(Operations.NEGATE);
+        removeLastNumberWithExtraOperations();
+        add(NUMBER);
+        add(Operations.ADD);
+        add(NUMBER);
+        add(Operations.FRACTION);
+        add(Operations.PERCENT);
+        add(Operations.NEGATE);
+        removeLastNumberWithExtraOperations();
+        add(Operations.SQR);
+        removeLastNumberWithExtraOperations();
+        add(Operations.SQR);
+        add(Operations.SQR);
+        removeLastNumberWithExtraOperations();
+    }
+
+    @Test
+    void testClear(){
+
+        add(NUMBER);
+        add(Operations.ADD);
+        add(NUMBER);
+        add(Operations.SQR);
+        add(Operations.MULTIPLY);
+        clear();
+        assertTrue(history.isEmpty());
+        add(NUMBER);
+        add(Operations.SQRT);
+        add(Operations.SUBTRACT);
+        removeLast();
+        clear();
+        add(Operations.NEGATE);
+        add(Operations.NEGATE);
+    }
+
+    @Test
+    void testRandomSequences(){
+
+        Random random = new Random(7);
+        for (int i = 0; i < RANDOM_STEPS; i++) {
+            int action = random.nextInt(20);
+            if (action < 11) {
+                add(OPERATIONS[random.nextInt(OPERATIONS.length)]);
+            } else if (action < 14) {
+                addOrChangeBinary(BINARY_OPERATIONS[random.nextInt(BINARY_OPERATIONS.length)]);
+            } else if (action < 17 && !expected.isEmpty()) {
+                removeLast();
+            } else if (action < 19 && !expected.isEmpty()) {
+                removeLastNumberWithExtraOperations();
+            } else if (action == 19) {
+                clear();
+            }
+        }
+    }
+
+    /**
+     * Method adds given operation and verifies history
+     * @param operation - given operation
+     */
+    private void add(Operation operation){
+
+        history.addOperation(operation);
+        expected.add(operation);
+        verify();
+    }
+
+    /**
+     * Method removes last operation and verifies history
+     */
+    private void removeLast(){
+
+        Operation removed = history.removeLastOperation();
+        assertSame(expected.remove(expected.size() - 1), removed);
+        verify();
+    }
+
+    /**
+     * Method adds or changes binary operation and verifies history
+     * @param operation - given binary operation
+     */
+    private void addOrChangeBinary(Operation operation){
+
+        history.addOrChangeBinaryOperation(operation);
+        int lastBinaryIndex = findLastBinaryIndex();
+        if (lastBinaryIndex < 0) {
+            expected.add(operation);
+        } else if (lastBinaryIndex > 0) {
+            expected.set(lastBinaryIndex, operation);
+        }
+        verify();
+    }
+
+    /**
+     * Method removes last number with extra operations on it and verifies history
+     */
+    private void removeLastNumberWithExtraOperations(){
+
+        history.removeLastNumberWithExtraOperations();
+        while (expected.size() > 1 && isRemovedWithNumber(expected.get(expected.size() - 1).getType())) {
+            expected.remove(expected.size() - 1);
+        }
+        expected.remove(expected.size() - 1);
+        verify();
+    }
+
+    /**
+     * Method clears history and verifies it
+     */
+    private void clear(){
+
+        history.clear();
+        expected.clear();
+        verify();
+    }
+
+    /**
+     * Method asserts operations of history and answers for each operation type with linear scan
+     */
+    private void verify(){
+
+        assertEquals(expected, history.getOperations());
+        assertEquals(expected.isEmpty(), history.isEmpty());
+        for (OperationType type : OperationType.values()) {
+            assertEquals(isContainingByScan(type), history.isContainingGivenOperationType(type), type.name());
+        }
+    }
+
+    /**
+     * Method verifies with linear scan is expected operations contain given type
+     * after last binary operation or is last binary operation of given type, first operation is skipped
+     * @param type - given operation type
+     * @return true if contains
+     */
+    private boolean isContainingByScan(OperationType type){
+
+        int lastBinaryIndex = findLastBinaryIndex();
+        boolean isContaining = false;
+        if (isBinaryOperation(type)) {
+            isContaining = lastBinaryIndex > 0 && type == expected.get(lastBinaryIndex).getType();
+        } else {
+            for (int i = Math.max(1, lastBinaryIndex + 1); i < expected.size(); i++) {
+                isContaining |= type == expected.get(i).getType();
+            }
+        }
+        return isContaining;
+    }
+
+    /**
+     * Method finds last binary operation at expected operations with linear scan
+     * @return index of last binary operation or -1
+     */
+    private int findLastBinaryIndex(){
+
+        int index = -1;
+        for (int i = 0; i < expected.size(); i++) {
+            if (isBinaryOperation(expected.get(i).getType())) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Method verifies is operation of given type removed together with number
+     * @param type - given operation type
+     * @return true if it is extra operation, negate or percent
+     */
+    private boolean isRemovedWithNumber(OperationType type){
+
+        return isExtraOperation(type) || OperationType.NEGATE == type || OperationType.PERCENT == type;
+    }
+}
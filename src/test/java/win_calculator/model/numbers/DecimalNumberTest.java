@@ -0,0 +1,159 @@
+package win_calculator.model.numbers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Test class for {@link DecimalNumber}.
+ * Tests that arithmetic of compact numbers gives the same values and scales as BigDecimal arithmetic,
+ * including results which overflow long and fall back to BigDecimal,
+ * and that compact and BigDecimal forms of equal numbers are equal and have equal hash codes.
+ */
+class DecimalNumberTest {
+
+    private static final String MAX_COMPACT = "999999999999999999";
+    private static final int RANDOM_CASES = 20000;
+
+    @Test
+    void testScales(){
+
+        test("1.5", "2.25");
+        test("1.50", "2");
+        test("-0.001", "1000");
+        test("0.0", "0.00");
+        test("12E+3", "0.5");
+        test("1E+5", "3E+2");
+        test("1", "1E-18");
+        test("1", "1E-19");
+        test("1E-20", "7");
+        test("-3.75", "3.75");
+    }
+
+    @Test
+    void testOverflow(){
+
+        // sum of scaled values, scaling of the first value, product, product with scale
+        test("900000000000000000", "99999999999999999.9");
+        test(MAX_COMPACT, "0.1");
+        test(MAX_COMPACT, MAX_COMPACT);
+        test("-" + MAX_COMPACT, "0.000000000000000001");
+        test("999999999", "99999999999");
+        test("0.000000001", "-9999999999.9999999");
+        test("4611686018427387904", "2");
+        test("9223372036854775807", "-1");
+        test("-9223372036854775808", "1");
+    }
+
+    @Test
+    void testRandomNumbers(){
+
+        Random random = new Random(5);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            test(createRandom(random), createRandom(random));
+        }
+    }
+
+    @Test
+    void testEquality(){
+
+        DecimalNumber compact = DecimalNumber.valueOf(new BigDecimal("1.50"));
+        assertEquals(compact, new DecimalNumber(new BigDecimal("1.50")));
+        assertEquals(compact.hashCode(), new DecimalNumber(new BigDecimal("1.50")).hashCode());
+        assertNotEquals(compact, DecimalNumber.valueOf(new BigDecimal("1.5")));
+        assertEquals(new BigDecimal("1.50"), compact.toBigDecimal());
+
+        BigDecimal big = new BigDecimal("12345678901234567890.5");
+        assertEquals(DecimalNumber.valueOf(big), new DecimalNumber(big));
+        assertEquals(DecimalNumber.valueOf(big).hashCode(), new DecimalNumber(big).hashCode());
+
+        assertEquals(DecimalNumber.ZERO, DecimalNumber.valueOf(BigDecimal.ZERO));
+        assertEquals(DecimalNumber.ONE.hashCode(), new DecimalNumber(BigDecimal.ONE).hashCode());
+    }
+
+    @Test
+    void testRounding(){
+
+        MathContext context = new MathContext(16, RoundingMode.HALF_UP);
+        BigDecimal value = new BigDecimal("0.12345678901234567");
+        assertEquals(value.round(context), DecimalNumber.valueOf(value).round(context).toBigDecimal());
+        assertEquals(value.round(context), new DecimalNumber(value).round(context).toBigDecimal());
+
+        DecimalNumber shortNumber = DecimalNumber.valueOf(new BigDecimal("1.25"));
+        assertEquals(shortNumber, shortNumber.round(context));
+    }
+
+    /**
+     * Method compares sum, difference, product and negation of given numbers in compact and BigDecimal forms
+     * with BigDecimal arithmetic, including scale
+     *
+     * @param first  - given first number
+     * @param second - given second number
+     */
+    private void test(String first, String second){
+
+        test(new BigDecimal(first), new BigDecimal(second));
+    }
+
+    /**
+     * Method compares sum, difference, product and negation of given numbers in compact and BigDecimal forms
+     * with BigDecimal arithmetic, including scale
+     *
+     * @param first  - given first number
+     * @param second - given second number
+     */
+    private void test(BigDecimal first, BigDecimal second){
+
+        DecimalNumber[] firstForms = {DecimalNumber.valueOf(first), new DecimalNumber(first)};
+        DecimalNumber[] secondForms = {DecimalNumber.valueOf(second), new DecimalNumber(second)};
+        for (DecimalNumber firstNumber : firstForms) {
+
+            test(first.negate(), firstNumber.negate());
+            for (DecimalNumber secondNumber : secondForms) {
+                test(first.add(second), firstNumber.add(secondNumber));
+                test(first.subtract(second), firstNumber.subtract(secondNumber));
+                test(first.multiply(second), firstNumber.multiply(secondNumber));
+            }
+
+        }
+    }
+
+    /**
+     * Method asserts given number with expected value and scale, and its equality to the BigDecimal form
+     *
+     * @param expected - expected value
+     * @param number   - given number
+     */
+    private void test(BigDecimal expected, CalcNumber number){
+
+        DecimalNumber expectedNumber = new DecimalNumber(expected);
+        assertEquals(expected.signum(), number.signum());
+        assertEquals(expectedNumber.hashCode(), number.hashCode(), expected.toString());
+        assertEquals(expectedNumber, number);
+        assertEquals(expected, number.toBigDecimal());
+    }
+
+    /**
+     * Method creates random number, which unscaled value has up to 76 bits, with random scale
+     *
+     * @param random - given generator
+     * @return random number
+     */
+    private BigDecimal createRandom(Random random){
+
+        int bits = 4 * (1 + random.nextInt(19));
+        BigInteger unscaledValue = new BigInteger(bits, random);
+        if (random.nextBoolean()) {
+            unscaledValue = unscaledValue.negate();
+        }
+
+        return new BigDecimal(unscaledValue, random.nextInt(30) - 5);
+    }
+}
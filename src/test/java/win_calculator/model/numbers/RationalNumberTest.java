@@ -0,0 +1,92 @@
+package win_calculator.model.numbers;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link RationalNumber}.
+ * Tests reducing by gcd, moving of sign to the numerator
+ * and rounding of numbers which numerator and denominator both exceed 1024 bits.
+ */
+class RationalNumberTest {
+
+    private static final MathContext ROUNDING_CONTEXT = new MathContext(64, RoundingMode.HALF_UP);
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+
+    @Test
+    void testReducing(){
+
+        test(RationalNumber.of(BigInteger.valueOf(6), BigInteger.valueOf(4)), "3", "2");
+        test(RationalNumber.of(BigInteger.valueOf(100), BigInteger.valueOf(25)), "4", "1");
+        test(RationalNumber.of(BigInteger.valueOf(7), BigInteger.valueOf(13)), "7", "13");
+        test(RationalNumber.of(BigInteger.ZERO, BigInteger.valueOf(5)), "0", "1");
+        test(RationalNumber.valueOf(new BigDecimal("0.25")), "1", "4");
+        test(RationalNumber.valueOf(new BigDecimal("1.50")), "3", "2");
+        test(RationalNumber.valueOf(new BigDecimal("12E+3")), "12000", "1");
+        test(RationalNumber.valueOf(new BigDecimal("0.1")).add(RationalNumber.valueOf(new BigDecimal("0.4"))), "1", "2");
+        test(RationalNumber.of(BigInteger.ONE, THREE).multiply(RationalNumber.valueOf(new BigDecimal("3"))), "1", "1");
+    }
+
+    @Test
+    void testSign(){
+
+        test(RationalNumber.of(BigInteger.valueOf(6), BigInteger.valueOf(-4)), "-3", "2");
+        test(RationalNumber.of(BigInteger.valueOf(-6), BigInteger.valueOf(4)), "-3", "2");
+        test(RationalNumber.of(BigInteger.valueOf(-6), BigInteger.valueOf(-4)), "3", "2");
+        test(RationalNumber.of(BigInteger.ZERO, BigInteger.valueOf(-5)), "0", "1");
+        test(RationalNumber.of(BigInteger.ONE, THREE).negate(), "-1", "3");
+        test(RationalNumber.of(BigInteger.ONE, THREE).divide(RationalNumber.valueOf(new BigDecimal("-2"))), "-1", "6");
+        assertEquals(-1, RationalNumber.of(BigInteger.ONE, BigInteger.valueOf(-3)).signum());
+    }
+
+    @Test
+    void testDivisionByZero(){
+
+        assertThrows(ArithmeticException.class, () -> RationalNumber.of(BigInteger.ONE, BigInteger.ZERO));
+        assertThrows(ArithmeticException.class,
+                () -> RationalNumber.of(BigInteger.ONE, THREE).divide(RationalNumber.valueOf(BigDecimal.ZERO)));
+    }
+
+    @Test
+    void testRoundingThreshold(){
+
+        BigInteger numerator = THREE.pow(700);
+        BigInteger maxExactDenominator = BigInteger.ONE.shiftLeft(1023);
+        BigInteger exceedingDenominator = BigInteger.ONE.shiftLeft(1024);
+
+        assertEquals(1110, numerator.bitLength());
+        assertEquals(1024, maxExactDenominator.bitLength());
+        assertEquals(1025, exceedingDenominator.bitLength());
+
+        test(RationalNumber.of(numerator, maxExactDenominator), numerator.toString(), maxExactDenominator.toString());
+        test(RationalNumber.of(maxExactDenominator, numerator), maxExactDenominator.toString(), numerator.toString());
+        test(RationalNumber.of(numerator, BigInteger.ONE), numerator.toString(), "1");
+
+        RationalNumber rounded = RationalNumber.of(numerator, exceedingDenominator);
+        BigDecimal expected = new BigDecimal(numerator).divide(new BigDecimal(exceedingDenominator), ROUNDING_CONTEXT);
+        assertEquals(0, expected.compareTo(rounded.toBigDecimal()));
+        assertEquals(RationalNumber.valueOf(expected), rounded);
+
+        RationalNumber roundedNegative = RationalNumber.of(numerator, exceedingDenominator.negate());
+        assertEquals(rounded.negate(), roundedNegative);
+    }
+
+    /**
+     * Method asserts numerator and denominator of given number with expected data
+     * @param number - given number
+     * @param numerator - expected numerator
+     * @param denominator - expected denominator
+     */
+    private void test(RationalNumber number, String numerator, String denominator){
+
+        assertEquals(new BigInteger(numerator), number.getNumerator());
+        assertEquals(new BigInteger(denominator), number.getDenominator());
+    }
+}